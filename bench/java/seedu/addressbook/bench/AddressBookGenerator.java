@@ -0,0 +1,265 @@
+package seedu.addressbook.bench;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import seedu.addressbook.commands.AddCommand;
+import seedu.addressbook.commands.DeleteCommand;
+import seedu.addressbook.commands.ExitCommand;
+import seedu.addressbook.commands.FindCommand;
+import seedu.addressbook.commands.ListCommand;
+import seedu.addressbook.commands.ViewAllCommand;
+import seedu.addressbook.commands.ViewCommand;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.UniqueTagList;
+import seedu.addressbook.storage.StorageFile;
+
+/**
+ * Deterministic generator of synthetic address books and command scripts for load testing.
+ * The same seed always produces the same output.
+ *
+ * Generated data follows skewed, roughly realistic distributions: name words and tags are drawn with
+ * Zipf-like frequencies, most persons have few tags, a minority of details are private and address lengths vary.
+ * All values satisfy the validation rules of {@link Name}, {@link Phone}, {@link Email}, {@link Address}
+ * and {@link Tag}, and generated persons are unique.
+ *
+ * Usage:
+ * <pre>
+ *   java seedu.addressbook.bench.AddressBookGenerator book PERSON_COUNT STORAGE_FILE [SEED]
+ *   java seedu.addressbook.bench.AddressBookGenerator script COMMAND_COUNT WRITE_PERCENT SCRIPT_FILE [SEED]
+ * </pre>
+ */
+public class AddressBookGenerator {
+
+    public static final long DEFAULT_SEED = 42;
+
+    public static final String MESSAGE_USAGE = "Usage:\n"
+            + "  java seedu.addressbook.bench.AddressBookGenerator book PERSON_COUNT STORAGE_FILE [SEED]\n"
+            + "  java seedu.addressbook.bench.AddressBookGenerator script COMMAND_COUNT WRITE_PERCENT SCRIPT_FILE"
+            + " [SEED]";
+
+    /** Most common first, as words are drawn with Zipf-like frequencies. */
+    public static final String[] FIRST_NAMES = {"Alex", "Wei", "Sarah", "John", "Mei", "David", "Priya", "Michael",
+        "Hui", "Daniel", "Siti", "James", "Li", "Rachel", "Kumar", "Emily", "Jun", "Aisha", "Ryan", "Grace",
+        "Irfan", "Bernice", "Charlotte", "Roy", "Nurul", "Benjamin", "Xin", "Hannah", "Arjun", "Chloe"};
+    public static final String[] LAST_NAMES = {"Tan", "Lim", "Lee", "Ng", "Wong", "Goh", "Chua", "Ong", "Koh",
+        "Teo", "Yeoh", "Kumar", "Sharma", "Rahman", "Smith", "Chen", "Wang", "Ho", "Low", "Chan", "Sim", "Toh",
+        "Yap", "Nair", "Pillai", "Garcia", "Brown", "Abdullah", "Quek", "Loh"};
+    private static final String[] STREET_WORDS = {"Clementi", "Ang Mo Kio", "Bedok", "Jurong West", "Tampines",
+        "Bukit Timah", "Serangoon", "Pasir Ris", "Holland", "Toa Payoh", "Woodlands", "Kent Ridge", "Orchard"};
+    private static final String[] STREET_TYPES = {"Ave", "Street", "Road", "Drive", "Crescent", "Lane"};
+    private static final String[] EMAIL_DOMAINS = {"gmail.com", "yahoo.com", "hotmail.com", "example.com",
+        "u.nus.edu", "company.com.sg"};
+    private static final String[] TAG_WORDS = {"friends", "family", "colleagues", "neighbours", "classmates",
+        "owesMoney", "vip", "gym", "club", "school", "church", "soccer", "book", "travel", "project"};
+
+    /** Probability that each contact detail is private. */
+    private static final double PRIVATE_PHONE_PROBABILITY = 0.2;
+    private static final double PRIVATE_EMAIL_PROBABILITY = 0.1;
+    private static final double PRIVATE_ADDRESS_PROBABILITY = 0.3;
+    /** Probability of each additional tag, giving a geometric distribution of tags per person. */
+    private static final double ADDITIONAL_TAG_PROBABILITY = 0.45;
+
+    private final Random random;
+    private final int tagPoolSize;
+    private int personsGenerated = 0;
+
+    public AddressBookGenerator(long seed) {
+        this(seed, 50);
+    }
+
+    /**
+     * @param tagPoolSize number of distinct tag names persons' tags are drawn from
+     */
+    public AddressBookGenerator(long seed, int tagPoolSize) {
+        this.random = new Random(seed);
+        this.tagPoolSize = tagPoolSize;
+    }
+
+    public static void main(String... args) throws Exception {
+        if (args.length >= 3 && "book".equals(args[0])) {
+            final long seed = args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_SEED;
+            new AddressBookGenerator(seed).writeStorageFile(Integer.parseInt(args[1]), args[2]);
+        } else if (args.length >= 4 && "script".equals(args[0])) {
+            final long seed = args.length > 4 ? Long.parseLong(args[4]) : DEFAULT_SEED;
+            final List<String> script = new AddressBookGenerator(seed)
+                    .generateCommandScript(Integer.parseInt(args[1]), Integer.parseInt(args[2]) / 100.0);
+            Files.write(Paths.get(args[3]), script, StandardCharsets.UTF_8);
+        } else {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Generates the next person. Every person generated by this generator is distinct from the others.
+     */
+    public Person generatePerson() {
+        try {
+            final String firstName = pickSkewed(FIRST_NAMES);
+            final String lastName = pickSkewed(LAST_NAMES);
+            final String name = random.nextInt(4) == 0
+                    ? firstName + " " + pickSkewed(FIRST_NAMES) + " " + lastName
+                    : firstName + " " + lastName;
+            final Person person = new Person(
+                    new Name(name),
+                    new Phone(generatePhone(), random.nextDouble() < PRIVATE_PHONE_PROBABILITY),
+                    new Email(generateEmail(firstName, lastName), random.nextDouble() < PRIVATE_EMAIL_PROBABILITY),
+                    new Address(generateAddress(), random.nextDouble() < PRIVATE_ADDRESS_PROBABILITY),
+                    new UniqueTagList(generateTags()));
+            personsGenerated++;
+            return person;
+        } catch (IllegalValueException ive) {
+            throw new AssertionError("generated values should be valid by construction", ive);
+        }
+    }
+
+    public List<Person> generatePersons(int count) {
+        final List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(generatePerson());
+        }
+        return persons;
+    }
+
+    public AddressBook generateAddressBook(int personCount) {
+        final AddressBook addressBook = new AddressBook();
+        try {
+            for (int i = 0; i < personCount; i++) {
+                addressBook.addPerson(generatePerson());
+            }
+        } catch (IllegalValueException ive) {
+            throw new AssertionError("generated persons should be unique by construction", ive);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Generates an address book and saves it to the given storage file, in the format given by its extension.
+     */
+    public void writeStorageFile(int personCount, String filePath) throws Exception {
+        new StorageFile(filePath).save(generateAddressBook(personCount));
+    }
+
+    /**
+     * Generates a script of user commands in the format read by {@link seedu.addressbook.ui.TextUi},
+     * ending with an exit command.
+     *
+     * Writes are {@code add} (new persons) and {@code delete} commands; reads are {@code list}, {@code find},
+     * {@code view} and {@code viewall} commands. Indices refer to the most recent {@code list} where possible.
+     *
+     * @param writeRatio fraction of commands, between 0 and 1, that change the address book
+     */
+    public List<String> generateCommandScript(int commandCount, double writeRatio) {
+        final List<String> script = new ArrayList<>();
+        script.add(String.format(Locale.ROOT, "# %d generated commands, %.0f%% writes",
+                commandCount, writeRatio * 100));
+        int lastListingSize = 0;
+        int bookSize = 0;
+        for (int i = 0; i < commandCount; i++) {
+            final boolean isWrite = random.nextDouble() < writeRatio;
+            final int choice = random.nextInt(10);
+            if (isWrite && (choice < 8 || lastListingSize == 0)) {
+                script.add(toAddCommand(generatePerson()));
+                bookSize++;
+            } else if (isWrite) {
+                script.add(DeleteCommand.COMMAND_WORD + " " + (1 + random.nextInt(lastListingSize)));
+                bookSize--;
+            } else if (choice < 2 || lastListingSize == 0) {
+                script.add(ListCommand.COMMAND_WORD);
+                lastListingSize = bookSize;
+            } else if (choice < 6) {
+                script.add(FindCommand.COMMAND_WORD + " " + pickSkewed(FIRST_NAMES) + " " + pickSkewed(LAST_NAMES));
+            } else {
+                final String commandWord = choice < 8 ? ViewCommand.COMMAND_WORD : ViewAllCommand.COMMAND_WORD;
+                script.add(commandWord + " " + (1 + random.nextInt(lastListingSize)));
+            }
+        }
+        script.add(ExitCommand.COMMAND_WORD);
+        return script;
+    }
+
+    /**
+     * Formats the person as an add command that creates an equivalent person.
+     */
+    public static String toAddCommand(Person person) {
+        final StringBuilder command = new StringBuilder(AddCommand.COMMAND_WORD)
+                .append(' ').append(person.getName())
+                .append(person.getPhone().isPrivate() ? " pp/" : " p/").append(person.getPhone())
+                .append(person.getEmail().isPrivate() ? " pe/" : " e/").append(person.getEmail())
+                .append(person.getAddress().isPrivate() ? " pa/" : " a/").append(person.getAddress());
+        for (Tag tag : person.getTags()) {
+            command.append(" t/").append(tag.tagName);
+        }
+        return command.toString();
+    }
+
+    /**
+     * Picks an element with Zipf-like frequencies, earlier elements being more likely.
+     */
+    private <T> T pickSkewed(T[] values) {
+        return values[pickSkewedIndex(values.length)];
+    }
+
+    private int pickSkewedIndex(int size) {
+        // inverse transform sampling of a density proportional to 1/x, which approximates Zipf's law
+        final double sample = Math.exp(random.nextDouble() * Math.log(size + 1)) - 1;
+        return Math.min((int) sample, size - 1);
+    }
+
+    /**
+     * Returns a phone number of at least 8 digits; the generation count forms the last digits to keep persons unique.
+     */
+    private String generatePhone() {
+        return String.format(Locale.ROOT, "%d%07d", 8 + random.nextInt(2), personsGenerated);
+    }
+
+    private String generateEmail(String firstName, String lastName) {
+        return firstName.toLowerCase(Locale.ROOT) + '.' + lastName.toLowerCase(Locale.ROOT)
+                + random.nextInt(100) + '@' + pickSkewed(EMAIL_DOMAINS);
+    }
+
+    private String generateAddress() {
+        final StringBuilder address = new StringBuilder();
+        if (random.nextInt(3) == 0) {
+            address.append("Blk ");
+        }
+        address.append(1 + random.nextInt(999)).append(", ")
+                .append(pickSkewed(STREET_WORDS)).append(' ').append(STREET_TYPES[random.nextInt(STREET_TYPES.length)]);
+        if (random.nextBoolean()) {
+            address.append(' ').append(1 + random.nextInt(12));
+        }
+        if (random.nextBoolean()) {
+            address.append(String.format(Locale.ROOT, ", #%02d-%02d", 1 + random.nextInt(30), 1 + random.nextInt(99)));
+        }
+        if (random.nextInt(5) == 0) {
+            address.append(", Singapore ").append(100000 + random.nextInt(800000));
+        }
+        return address.toString();
+    }
+
+    private List<Tag> generateTags() throws IllegalValueException {
+        final List<Tag> tags = new ArrayList<>();
+        while (random.nextDouble() < ADDITIONAL_TAG_PROBABILITY) {
+            final int tagIndex = pickSkewedIndex(tagPoolSize);
+            final int variant = tagIndex / TAG_WORDS.length;
+            final Tag tag = new Tag(TAG_WORDS[tagIndex % TAG_WORDS.length] + (variant == 0 ? "" : variant));
+            if (!tags.contains(tag)) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.addressbook.bench;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * A minimal micro-benchmark harness: runs a body repeatedly after a warm-up and reports the time per operation.
+ *
+ * Each measured iteration is timed separately and the median is reported, which is robust against the
+ * occasional garbage collection pause. Results are only comparable between runs on the same machine and JVM.
+ */
+public class Benchmark {
+
+    /**
+     * The code being measured. Each call performs {@code operationsPerIteration} operations and returns
+     * a value derived from them, so that the JIT compiler cannot discard the work.
+     */
+    public interface Body {
+        Object run() throws Exception;
+    }
+
+    /** Prevents results from being optimised away. */
+    private static volatile Object sink;
+
+    private static final String RESULT_FORMAT = "%-55s %14.1f ns/op %14.1f ops/s%n";
+
+    private final int warmupIterations;
+    private final int measuredIterations;
+
+    public Benchmark(int warmupIterations, int measuredIterations) {
+        this.warmupIterations = warmupIterations;
+        this.measuredIterations = measuredIterations;
+    }
+
+    /**
+     * Measures {@code body} and prints one result line.
+     *
+     * @param operationsPerIteration number of operations each call of {@code body} performs
+     */
+    public void measure(String name, int operationsPerIteration, Body body) throws Exception {
+        for (int i = 0; i < warmupIterations; i++) {
+            sink = body.run();
+        }
+        final long[] nanosPerIteration = new long[measuredIterations];
+        for (int i = 0; i < measuredIterations; i++) {
+            final long start = System.nanoTime();
+            sink = body.run();
+            nanosPerIteration[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanosPerIteration);
+        final double nanosPerOperation = (double) nanosPerIteration[measuredIterations / 2] / operationsPerIteration;
+        System.out.printf(Locale.ROOT, RESULT_FORMAT, name, nanosPerOperation, 1e9 / nanosPerOperation);
+    }
+}
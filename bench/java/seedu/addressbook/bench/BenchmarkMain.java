@@ -0,0 +1,262 @@
+package seedu.addressbook.bench;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.commands.FindAddressCommand;
+import seedu.addressbook.commands.FindCommand;
+import seedu.addressbook.commands.FindEmailCommand;
+import seedu.addressbook.commands.FindPhoneCommand;
+import seedu.addressbook.commands.FindTagCommand;
+import seedu.addressbook.commands.FuzzyFindCommand;
+import seedu.addressbook.commands.ImportCommand;
+import seedu.addressbook.commands.ListCommand;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.parser.Parser;
+import seedu.addressbook.storage.StorageFile;
+import seedu.addressbook.ui.TextUi;
+
+/**
+ * Benchmarks for the data, parser, ui and storage hot paths.
+ *
+ * Usage: {@code java seedu.addressbook.bench.BenchmarkMain [BOOK_SIZE]...} (default sizes: 1000 100000).
+ * See {@code bench/runbench.sh} and compare the output with {@code bench/baseline.txt}.
+ */
+public class BenchmarkMain {
+
+    private static final int[] DEFAULT_BOOK_SIZES = {1000, 100000};
+
+    private static final long SEED = AddressBookGenerator.DEFAULT_SEED;
+
+    /** Commands parsed by the parser benchmark, at least one per command word. */
+    private static final String[] PARSER_INPUTS = {
+        "add John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25 t/friends t/owesMoney",
+        "add Betsy Crowe pp/1234567 e/betsycrowe@example.com pa/Newgate Prison",
+        "delete 3",
+        "clear",
+        "find Alex Bernice Charlotte",
+        "list",
+        "view 1",
+        "viewall 2",
+        "help",
+        "exit",
+    };
+
+    private static final Benchmark FAST = new Benchmark(20, 30);
+    private static final Benchmark SLOW = new Benchmark(2, 5);
+
+    public static void main(String... args) throws Exception {
+        final int[] bookSizes = args.length == 0
+                ? DEFAULT_BOOK_SIZES
+                : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+
+        benchmarkParser();
+        for (int bookSize : bookSizes) {
+            System.out.println("--- " + bookSize + " persons");
+            final List<Person> persons = new AddressBookGenerator(SEED).generatePersons(bookSize);
+            benchmarkValidation(persons);
+            benchmarkUniquePersonList(persons);
+            benchmarkAddressBook(persons);
+            benchmarkCommandsAndUi(persons);
+            benchmarkImport(persons);
+            benchmarkStorage(persons);
+        }
+    }
+
+    private static void benchmarkParser() throws Exception {
+        final Parser parser = new Parser();
+        for (String input : PARSER_INPUTS) {
+            final String label = input.length() > 20 ? input.substring(0, 20) + "..." : input;
+            FAST.measure("Parser.parseCommand " + label, 10000, () -> {
+                Object command = null;
+                for (int i = 0; i < 10000; i++) {
+                    command = parser.parseCommand(input);
+                }
+                return command;
+            });
+        }
+    }
+
+    /**
+     * Validates every field of every person, as loading the address book from storage does.
+     */
+    private static void benchmarkValidation(List<Person> persons) throws Exception {
+        final Benchmark benchmark = persons.size() > 10000 ? SLOW : FAST;
+        benchmark.measure("Person field validation", persons.size(), () -> {
+            int valid = 0;
+            for (Person person : persons) {
+                valid += Name.isValidName(person.getName().fullName)
+                        && Phone.isValidPhone(person.getPhone().value)
+                        && Email.isValidEmail(person.getEmail().value)
+                        && Address.isValidAddress(person.getAddress().value)
+                        && person.getTagsView().stream().allMatch(tag -> Tag.isValidTagName(tag.tagName))
+                        ? 1 : 0;
+            }
+            return valid;
+        });
+    }
+
+    private static void benchmarkUniquePersonList(List<Person> persons) throws Exception {
+        final int size = persons.size();
+        final Benchmark benchmark = size > 10000 ? SLOW : FAST;
+        benchmark.measure("UniquePersonList.add", size, () -> new UniquePersonList(persons));
+
+        final UniquePersonList list = new UniquePersonList(persons);
+        final int lookups = Math.min(size, 10000);
+        benchmark.measure("UniquePersonList.contains", lookups, () -> {
+            int found = 0;
+            for (int i = 0; i < lookups; i++) {
+                found += list.contains(persons.get(i * (size / lookups))) ? 1 : 0;
+            }
+            return found;
+        });
+        benchmark.measure("UniquePersonList.remove+add", lookups, () -> {
+            for (int i = 0; i < lookups; i++) {
+                final Person person = persons.get(i * (size / lookups));
+                list.remove(person);
+                list.add(person);
+            }
+            return list;
+        });
+    }
+
+    private static void benchmarkAddressBook(List<Person> persons) throws Exception {
+        final Benchmark benchmark = persons.size() > 10000 ? SLOW : FAST;
+        benchmark.measure("AddressBook.addPerson (with tag sync)", persons.size(),
+            () -> createAddressBook(persons));
+    }
+
+    private static void benchmarkCommandsAndUi(List<Person> persons) throws Exception {
+        final AddressBook addressBook = createAddressBook(persons);
+        final FindCommand find = new FindCommand(new HashSet<>(Arrays.asList(
+                AddressBookGenerator.FIRST_NAMES[5], AddressBookGenerator.LAST_NAMES[10])));
+        find.setData(addressBook, Collections.emptyList());
+        FAST.measure("FindCommand.execute (2 keywords)", 1, find::execute);
+
+        final FindCommand findPrefix = new FindCommand(new HashSet<>(Arrays.asList(
+                AddressBookGenerator.FIRST_NAMES[5].substring(0, 2) + FindCommand.PREFIX_WILDCARD)));
+        findPrefix.setData(addressBook, Collections.emptyList());
+        FAST.measure("FindCommand.execute (2-letter prefix)", 1, findPrefix::execute);
+
+        final String misspeltName = new StringBuilder(AddressBookGenerator.LAST_NAMES[10]).reverse().toString();
+        final FuzzyFindCommand fuzzyFind = new FuzzyFindCommand(new HashSet<>(Arrays.asList(
+                AddressBookGenerator.FIRST_NAMES[5] + "x", misspeltName)));
+        fuzzyFind.setData(addressBook, Collections.emptyList());
+        FAST.measure("FuzzyFindCommand.execute (2 keywords)", 1, fuzzyFind::execute);
+
+        final FindAddressCommand findAddress = new FindAddressCommand(new HashSet<>(Arrays.asList("jurong", "#05")));
+        findAddress.setData(addressBook, Collections.emptyList());
+        addressBook.setParallelSearchThreshold(Integer.MAX_VALUE);
+        FAST.measure("FindAddressCommand.execute (sequential scan)", 1, findAddress::execute);
+        addressBook.setParallelSearchThreshold(0);
+        FAST.measure("FindAddressCommand.execute (parallel scan)", 1, findAddress::execute);
+        addressBook.setParallelSearchThreshold(AddressBook.DEFAULT_PARALLEL_SEARCH_THRESHOLD);
+
+        final Person sample = persons.get(persons.size() / 2);
+        final String phone = sample.getPhone().value;
+        final FindPhoneCommand findPhone = new FindPhoneCommand(new HashSet<>(Arrays.asList(
+                phone, FindPhoneCommand.SUFFIX_WILDCARD + phone.substring(phone.length() - 4))));
+        findPhone.setData(addressBook, Collections.emptyList());
+        FAST.measure("FindPhoneCommand.execute (number, 4-digit suffix)", 1, findPhone::execute);
+
+        final FindEmailCommand findEmail = new FindEmailCommand(new HashSet<>(Arrays.asList(
+                sample.getEmail().value, FindEmailCommand.DOMAIN_PREFIX + "example.com")));
+        findEmail.setData(addressBook, Collections.emptyList());
+        FAST.measure("FindEmailCommand.execute (email, domain)", 1, findEmail::execute);
+
+        final FindTagCommand findTagAll = new FindTagCommand(Collections.singletonList(
+                Arrays.asList("friends", "family")));
+        findTagAll.setData(addressBook, Collections.emptyList());
+        FAST.measure("FindTagCommand.execute (friends+family)", 1, findTagAll::execute);
+
+        final FindTagCommand findTagAny = new FindTagCommand(Arrays.asList(
+                Collections.singletonList("vip"), Collections.singletonList("gym")));
+        findTagAny.setData(addressBook, Collections.emptyList());
+        FAST.measure("FindTagCommand.execute (vip gym)", 1, findTagAny::execute);
+
+        final ListCommand list = new ListCommand();
+        list.setData(addressBook, Collections.emptyList());
+        final CommandResult listResult = list.execute();
+        final TextUi ui = new TextUi(System.in, new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {}
+
+            @Override
+            public void write(byte[] b, int off, int len) {}
+        }));
+        // only the first page of the list is rendered, however large the book
+        FAST.measure("TextUi.showResultToUser (list, first page)", 1, () -> {
+            ui.showResultToUser(listResult);
+            return ui;
+        });
+    }
+
+    /**
+     * Imports all persons from a CSV file into an empty address book.
+     */
+    private static void benchmarkImport(List<Person> persons) throws Exception {
+        final Path file = Files.createTempFile("addressbook-bench", ".csv");
+        final List<String> lines = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            lines.add(toCsvLine(person));
+        }
+        Files.write(file, lines);
+        final Benchmark benchmark = persons.size() > 10000 ? SLOW : FAST;
+        benchmark.measure("ImportCommand.execute (CSV)", persons.size(), () -> {
+            final ImportCommand importCommand = new ImportCommand(file.toString());
+            importCommand.setData(new AddressBook(), Collections.emptyList());
+            return importCommand.execute();
+        });
+        Files.delete(file);
+    }
+
+    private static String toCsvLine(Person person) {
+        final String tags = person.getTagsView().stream().map(tag -> tag.tagName).collect(Collectors.joining(" "));
+        return Stream.of(person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                person.getAddress().value, tags)
+                .map(value -> '"' + value + '"')
+                .collect(Collectors.joining(","));
+    }
+
+    private static void benchmarkStorage(List<Person> persons) throws Exception {
+        final AddressBook addressBook = createAddressBook(persons);
+        final Path directory = Files.createTempDirectory("addressbook-bench");
+        for (String extension : new String[] {".xml", ".bin"}) {
+            final String filePath = directory.resolve("bench" + extension).toString();
+            SLOW.measure("StorageFile.save " + extension, 1, () -> {
+                // a fresh StorageFile each time, as saving an unchanged book again is skipped
+                new StorageFile(filePath).save(addressBook);
+                return filePath;
+            });
+            SLOW.measure("StorageFile.load " + extension, 1, () -> new StorageFile(filePath).load());
+            Files.delete(directory.resolve("bench" + extension));
+        }
+        Files.delete(directory);
+    }
+
+    private static AddressBook createAddressBook(List<Person> persons) throws IllegalValueException {
+        final AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
+            addressBook.addPerson(new Person(person));
+        }
+        return addressBook;
+    }
+}
@@ -0,0 +1,16 @@
+#!/usr/bin/env bash
+
+# Runs the benchmarks. Usage: ./runbench.sh [BOOK_SIZE]...
+# Compare the output against baseline.txt (recorded on the same kind of machine and JVM).
+
+# create bin directory if it doesn't exist
+if [ ! -d "../bin" ]
+then
+    mkdir ../bin
+fi
+
+# compile the code and the benchmarks into the bin folder
+javac -cp ../src -Xlint:none -d ../bin ../src/seedu/addressbook/Main.java ../bench/java/seedu/addressbook/bench/*.java
+
+# run the benchmarks with a fixed heap so that runs are comparable
+java -Xms2g -Xmx2g -classpath ../bin seedu.addressbook.bench.BenchmarkMain "$@"
@@ -5,31 +5,73 @@ import seedu.addressbook.storage.StorageFile.*;
 
 import seedu.addressbook.commands.*;
 import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
 import seedu.addressbook.parser.Parser;
+import seedu.addressbook.storage.AsyncStorageWriter;
 import seedu.addressbook.storage.StorageFile;
 import seedu.addressbook.ui.TextUi;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+import static seedu.addressbook.common.Messages.MESSAGE_INVALID_LAUNCH_ARG_VALUE;
+import static seedu.addressbook.common.Messages.MESSAGE_LAUNCH_ARG_NEEDS_OTHER;
+import static seedu.addressbook.common.Messages.MESSAGE_PROGRAM_LAUNCH_ARGS_USAGE;
+import static seedu.addressbook.common.Messages.MESSAGE_SCRIPT_EXECUTED;
+import static seedu.addressbook.common.Messages.MESSAGE_SCRIPT_READ_FAILED;
+
 
 /**
  * Entry point of the Address Book application.
- * Initializes the application and starts the interaction with the user.
+ * Initializes the application and starts the interaction with the user,
+ * or executes a script of commands if launched with {@link #BATCH_LAUNCH_FLAG}.
  */
 public class Main {
 
     /** Version info of the program. */
     public static final String VERSION = "AddessBook Level 2 - Version 1.0";
 
+    /** Launch argument that enables journaled storage (see {@link StorageFile#StorageFile(String, boolean)}). */
+    public static final String JOURNAL_LAUNCH_FLAG = "--journal";
+
+    /**
+     * Launch argument, followed by the path of a script file, that executes the commands in the script instead of
+     * reading them from the user. Commands are not prompted for or echoed, output is buffered, and changes are
+     * saved once at the end (or also every {@link #SAVE_INTERVAL_LAUNCH_FLAG} changes).
+     */
+    public static final String BATCH_LAUNCH_FLAG = "--batch";
+
+    /** Launch argument, followed by a number N, that also saves a running script's changes every N changes. */
+    public static final String SAVE_INTERVAL_LAUNCH_FLAG = "--save-every";
+
+    /** Parses every command entered; the parser holds no state, so one instance serves the whole session. */
+    private final Parser parser = new Parser();
+
     private TextUi ui;
+    private PrintStream output;
+    private String scriptPath;
     private StorageFile storage;
+    private AsyncStorageWriter storageWriter;
     private AddressBook addressBook;
 
     /** The list of person shown to the user most recently.  */
     private List<? extends ReadOnlyPerson> lastShownList = Collections.emptyList();
 
+    /** The page of {@link #lastShownList} last shown to the user. */
+    private int lastShownPageNumber = 1;
+
 
     public static void main(String... launchArgs) {
         new Main().run(launchArgs);
@@ -37,11 +79,29 @@ public class Main {
 
     /** Runs the program until termination.  */
     public void run(String[] launchArgs) {
-        start(launchArgs);
-        runCommandLoopUntilExitCommand();
+        runUntilExitCommand(launchArgs);
         exit();
     }
 
+    /**
+     * Starts up and executes commands until the user (or script) is done, then saves any pending changes.
+     * Pending changes are saved and buffered output is flushed even if a command fails unexpectedly.
+     *
+     * @param launchArgs arguments supplied by the user at program launch
+     */
+    void runUntilExitCommand(String[] launchArgs) {
+        start(launchArgs);
+        try {
+            if (scriptPath == null) {
+                runCommandLoopUntilExitCommand();
+            } else {
+                runScriptUntilExitCommand();
+            }
+        } finally {
+            stop();
+        }
+    }
+
     /**
      * Sets up the required objects, loads up the data from the storage file, and prints the welcome message.
      *
@@ -49,14 +109,39 @@ public class Main {
      *
      */
     private void start(String[] launchArgs) {
+        this.output = System.out;
+        this.ui = new TextUi(System.in, output);
         try {
-            this.ui = new TextUi();
-            this.storage = initializeStorage(launchArgs);
+            final List<String> args = new ArrayList<>(Arrays.asList(launchArgs));
+            this.scriptPath = removeLaunchArgWithValue(args, BATCH_LAUNCH_FLAG);
+            final String saveIntervalArg = removeLaunchArgWithValue(args, SAVE_INTERVAL_LAUNCH_FLAG);
+            if (saveIntervalArg != null && scriptPath == null) {
+                throw new IllegalValueException(
+                        String.format(MESSAGE_LAUNCH_ARG_NEEDS_OTHER, SAVE_INTERVAL_LAUNCH_FLAG, BATCH_LAUNCH_FLAG));
+            }
+            final int saveInterval = parseSaveInterval(saveIntervalArg);
+            if (scriptPath != null) {
+                // the output of a script is read afterwards, if at all, so it need not appear line by line
+                this.output = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)),
+                        false);
+                this.ui = new TextUi(System.in, output);
+            }
+            this.storage = initializeStorage(args);
             this.addressBook = storage.load();
+            this.storageWriter = scriptPath == null
+                    ? new AsyncStorageWriter(storage, addressBook)
+                    : new AsyncStorageWriter(storage, addressBook, AsyncStorageWriter.NO_MAX_LATENCY, saveInterval);
+            storageWriter.start();
             ui.showWelcomeMessage(VERSION, storage.getPath());
 
-        } catch (InvalidStorageFilePathException | StorageOperationException e) {
+        } catch (IllegalValueException | StorageOperationException e) {
+            ui.showToUser(e.getMessage());
+            if (e instanceof IllegalValueException) {
+                // the launch arguments were invalid
+                ui.showToUser(MESSAGE_PROGRAM_LAUNCH_ARGS_USAGE);
+            }
             ui.showInitFailedMessage();
+            output.flush();
             /*
              * ==============NOTE TO STUDENTS=========================================================================
              * We are throwing a RuntimeException which is an 'unchecked' exception. Unchecked exceptions do not need
@@ -70,9 +155,21 @@ public class Main {
         }
     }
 
+    /** Saves any pending changes, stops saving in the background and flushes the output. */
+    private void stop() {
+        try {
+            storageWriter.close();
+        } catch (StorageOperationException e) {
+            ui.showToUser(e.getMessage());
+        } finally {
+            output.flush();
+        }
+    }
+
     /** Prints the Goodbye message and exits. */
     private void exit() {
         ui.showGoodbyeMessage();
+        output.flush();
         System.exit(0);
     }
 
@@ -81,7 +178,7 @@ public class Main {
         Command command;
         do {
             String userCommandText = ui.getUserCommand();
-            command = new Parser().parseCommand(userCommandText);
+            command = parser.parseCommand(userCommandText);
             CommandResult result = executeCommand(command);
             recordResult(result);
             ui.showResultToUser(result);
@@ -89,25 +186,58 @@ public class Main {
         } while (!ExitCommand.isExit(command));
     }
 
-    /** Updates the {@link #lastShownList} if the result contains a list of Persons. */
+    /**
+     * Executes the commands in the script file one after another, until the end of the script or an exit command.
+     * Blank and comment lines are skipped, as they are when entered by the user.
+     */
+    private void runScriptUntilExitCommand() {
+        int executedCount = 0;
+        try (BufferedReader script = Files.newBufferedReader(Paths.get(scriptPath))) {
+            Command command = null;
+            String line;
+            while (!ExitCommand.isExit(command) && (line = script.readLine()) != null) {
+                if (TextUi.shouldIgnore(line)) {
+                    continue;
+                }
+                command = parser.parseCommand(line);
+                CommandResult result = executeCommand(command);
+                recordResult(result);
+                ui.showResultToUser(result);
+                executedCount++;
+            }
+        } catch (IOException | InvalidPathException e) {
+            ui.showToUser(String.format(MESSAGE_SCRIPT_READ_FAILED, scriptPath, e.getMessage()));
+        }
+        ui.showToUser(String.format(MESSAGE_SCRIPT_EXECUTED, executedCount, scriptPath));
+    }
+
+    /** Updates the {@link #lastShownList} and its page if the result contains a list of Persons. */
     private void recordResult(CommandResult result) {
         final Optional<List<? extends ReadOnlyPerson>> personList = result.getRelevantPersons();
         if (personList.isPresent()) {
             lastShownList = personList.get();
+            lastShownPageNumber = result.getPageNumber();
         }
     }
 
     /**
      * Executes the command and returns the result.
+     * Any changes made are saved in the background by the {@link #storageWriter}.
      *
      * @param command user command
      * @return result of the command
      */
     private CommandResult executeCommand(Command command)  {
         try {
-            command.setData(addressBook, lastShownList);
-            CommandResult result = command.execute();
-            storage.save(addressBook);
+            final CommandResult result;
+            synchronized (addressBook) {
+                command.setData(addressBook, lastShownList, lastShownPageNumber);
+                result = command.execute();
+            }
+            final StorageOperationException saveFailure = storageWriter.getLastFailure();
+            if (saveFailure != null) {
+                ui.showToUser(saveFailure.getMessage());
+            }
             return result;
         } catch (Exception e) {
             ui.showToUser(e.getMessage());
@@ -115,14 +245,56 @@ public class Main {
         }
     }
 
+    /**
+     * Removes the given launch argument and the value following it from the launch arguments.
+     *
+     * @return the value, or null if the launch argument is absent
+     * @throws IllegalValueException if the launch argument is not followed by a value
+     */
+    private static String removeLaunchArgWithValue(List<String> args, String flag) throws IllegalValueException {
+        final int flagIndex = args.indexOf(flag);
+        if (flagIndex < 0) {
+            return null;
+        }
+        if (flagIndex + 1 >= args.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_LAUNCH_ARG_VALUE, flag));
+        }
+        args.remove(flagIndex);
+        return args.remove(flagIndex);
+    }
+
+    /**
+     * Parses the number of changes between saves while running a script.
+     *
+     * @param saveInterval value of the {@link #SAVE_INTERVAL_LAUNCH_FLAG} launch argument, or null if absent
+     * @throws IllegalValueException if the value is not a positive number
+     */
+    private static int parseSaveInterval(String saveInterval) throws IllegalValueException {
+        if (saveInterval == null) {
+            return Integer.MAX_VALUE; // save only at the end
+        }
+        try {
+            final int interval = Integer.parseInt(saveInterval);
+            if (interval > 0) {
+                return interval;
+            }
+        } catch (NumberFormatException nfe) {
+            // reported below
+        }
+        throw new IllegalValueException(String.format(MESSAGE_INVALID_LAUNCH_ARG_VALUE, SAVE_INTERVAL_LAUNCH_FLAG));
+    }
+
     /**
      * Creates the StorageFile object based on the user specified path (if any) or the default storage path.
-     * @param launchArgs arguments supplied by the user at program launch
+     * Journaling is enabled if the {@link #JOURNAL_LAUNCH_FLAG} is among the launch arguments.
+     * @param args arguments supplied by the user at program launch, other than those already handled
      * @throws InvalidStorageFilePathException if the target file path is incorrect.
      */
-    private StorageFile initializeStorage(String[] launchArgs) throws InvalidStorageFilePathException {
-        boolean isStorageFileSpecifiedByUser = launchArgs.length > 0;
-        return isStorageFileSpecifiedByUser ? new StorageFile(launchArgs[0]) : new StorageFile();
+    private StorageFile initializeStorage(List<String> args) throws InvalidStorageFilePathException {
+        final boolean isJournaled = args.remove(JOURNAL_LAUNCH_FLAG);
+        boolean isStorageFileSpecifiedByUser = args.size() > 0;
+        final String filePath = isStorageFileSpecifiedByUser ? args.get(0) : StorageFile.DEFAULT_STORAGE_FILEPATH;
+        return new StorageFile(filePath, isJournaled);
     }
 
 
@@ -14,6 +14,7 @@ import static seedu.addressbook.ui.TextUi.DISPLAYED_INDEX_OFFSET;
 public abstract class Command {
     protected AddressBook addressBook;
     protected List<? extends ReadOnlyPerson> relevantPersons;
+    protected int relevantPageNumber = 1;
     private int targetIndex = -1;
 
     /**
@@ -45,8 +46,19 @@ public abstract class Command {
      * Supplies the data the command will operate on.
      */
     public void setData(AddressBook addressBook, List<? extends ReadOnlyPerson> relevantPersons) {
+        setData(addressBook, relevantPersons, 1);
+    }
+
+    /**
+     * Supplies the data the command will operate on.
+     *
+     * @param relevantPageNumber the page of relevantPersons last shown to the user
+     */
+    public void setData(AddressBook addressBook, List<? extends ReadOnlyPerson> relevantPersons,
+                        int relevantPageNumber) {
         this.addressBook = addressBook;
         this.relevantPersons = relevantPersons;
+        this.relevantPageNumber = relevantPageNumber;
     }
 
     /**
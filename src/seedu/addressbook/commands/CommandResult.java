@@ -7,23 +7,48 @@ import java.util.Optional;
 
 /**
  * Represents the result of a command execution.
+ *
+ * A list of persons in a result is shown to the user one page of {@link #PAGE_SIZE} persons at a time.
+ * The whole list remains the listing that displayed indices refer to, so indices keep counting up across pages.
  */
 public class CommandResult {
 
+    /** Number of persons shown to the user at a time. */
+    public static final int PAGE_SIZE = 50;
+
     /** The feedback message to be shown to the user. Contains a description of the execution result */
     public final String feedbackToUser;
 
     /** The list of persons that was produced by the command */
     private final List<? extends ReadOnlyPerson> relevantPersons;
 
+    /** The page of {@link #relevantPersons} to show, starting from 1 */
+    private final int pageNumber;
+
     public CommandResult(String feedbackToUser) {
         this.feedbackToUser = feedbackToUser;
         relevantPersons = null;
+        pageNumber = 1;
     }
 
     public CommandResult(String feedbackToUser, List<? extends ReadOnlyPerson> relevantPersons) {
+        this(feedbackToUser, relevantPersons, 1);
+    }
+
+    /**
+     * @param pageNumber the page of the persons to show, from 1 to {@link #getPageCount(int)}
+     */
+    public CommandResult(String feedbackToUser, List<? extends ReadOnlyPerson> relevantPersons, int pageNumber) {
         this.feedbackToUser = feedbackToUser;
         this.relevantPersons = relevantPersons;
+        this.pageNumber = pageNumber;
+    }
+
+    /**
+     * Returns number of pages needed to show the given number of persons. An empty list still takes one page.
+     */
+    public static int getPageCount(int personCount) {
+        return Math.max(1, (personCount + PAGE_SIZE - 1) / PAGE_SIZE);
     }
 
     /**
@@ -33,4 +58,30 @@ public class CommandResult {
         return Optional.ofNullable(relevantPersons);
     }
 
+    /**
+     * Returns the page of the relevant persons to show, starting from 1.
+     */
+    public int getPageNumber() {
+        return pageNumber;
+    }
+
+    /**
+     * Returns the position of the first person on the shown page within the relevant persons, starting from 0.
+     */
+    public int getFirstIndexOnPage() {
+        return (pageNumber - 1) * PAGE_SIZE;
+    }
+
+    /**
+     * Returns the relevant persons on the shown page, if any. This is a view of the relevant persons, not a copy.
+     */
+    public Optional<List<? extends ReadOnlyPerson>> getPersonsOnPage() {
+        if (relevantPersons == null) {
+            return Optional.empty();
+        }
+        final int fromIndex = Math.min(getFirstIndexOnPage(), relevantPersons.size());
+        final int toIndex = Math.min(fromIndex + PAGE_SIZE, relevantPersons.size());
+        return Optional.of(relevantPersons.subList(fromIndex, toIndex));
+    }
+
 }
@@ -0,0 +1,73 @@
+package seedu.addressbook.commands;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Finds and lists all persons in address book whose address contains any of the argument keywords anywhere,
+ * including within words. Keyword matching is case insensitive.
+ * Private addresses are matched, but remain hidden in the listing.
+ */
+public class FindAddressCommand extends Command {
+
+    public static final String COMMAND_WORD = "findaddress";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose addresses contain any of "
+            + "the specified keywords (case-insensitive), even as part of a word, "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " clementi 01-";
+
+    private final Set<String> keywords;
+
+    public FindAddressCommand(Set<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    /**
+     * Returns copy of keywords in this command.
+     */
+    public Set<String> getKeywords() {
+        return new HashSet<>(keywords);
+    }
+
+    @Override
+    public CommandResult execute() {
+        final List<ReadOnlyPerson> personsFound = addressBook.getPersonsMatching(this::hasAddressContainingAnyKeyword);
+        return new CommandResult(getMessageForPersonListShownSummary(personsFound), personsFound);
+    }
+
+    private boolean hasAddressContainingAnyKeyword(ReadOnlyPerson person) {
+        final String address = person.getAddress().value;
+        for (String keyword : keywords) {
+            if (containsIgnoreCase(address, keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the text contains the keyword, ignoring case, without allocating.
+     */
+    private static boolean containsIgnoreCase(String text, String keyword) {
+        if (keyword.isEmpty()) {
+            return true;
+        }
+        final char firstLower = Character.toLowerCase(keyword.charAt(0));
+        final char firstUpper = Character.toUpperCase(keyword.charAt(0));
+        for (int start = 0; start <= text.length() - keyword.length(); start++) {
+            final char c = text.charAt(start);
+            // cheap first character check before the full case-insensitive comparison
+            if ((c == firstLower || c == firstUpper)
+                    && text.regionMatches(true, start, keyword, 0, keyword.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
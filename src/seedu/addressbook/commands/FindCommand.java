@@ -1,7 +1,5 @@
 package seedu.addressbook.commands;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -10,16 +8,21 @@ import seedu.addressbook.data.person.ReadOnlyPerson;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case sensitive.
+ * A keyword ending with {@link #PREFIX_WILDCARD} matches any word starting with the rest of the keyword.
+ * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    /** Marks a keyword as a prefix when it ends the keyword, e.g. {@code al*}. */
+    public static final String PREFIX_WILDCARD = "*";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
-            + "the specified keywords (case-sensitive) and displays them as a list with index numbers.\n"
+            + "the specified keywords (case-insensitive) and displays them as a list with index numbers. "
+            + "End a keyword with '" + PREFIX_WILDCARD + "' to match any word starting with it.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob char" + PREFIX_WILDCARD;
 
     private final Set<String> keywords;
 
@@ -43,18 +46,20 @@ public class FindCommand extends Command {
     /**
      * Retrieve all persons in the address book whose names contain some of the specified keywords.
      *
-     * @param keywords for searching
+     * @param keywords for searching, where keywords ending with {@link #PREFIX_WILDCARD} are word prefixes
      * @return list of persons found
      */
     private List<ReadOnlyPerson> getPersonsWithNameContainingAnyKeyword(Set<String> keywords) {
-        final List<ReadOnlyPerson> matchedPersons = new ArrayList<>();
-        for (ReadOnlyPerson person : addressBook.getAllPersons()) {
-            final Set<String> wordsInName = new HashSet<>(person.getName().getWordsInName());
-            if (!Collections.disjoint(wordsInName, keywords)) {
-                matchedPersons.add(person);
+        final Set<String> words = new HashSet<>();
+        final Set<String> wordPrefixes = new HashSet<>();
+        for (String keyword : keywords) {
+            if (keyword.endsWith(PREFIX_WILDCARD)) {
+                wordPrefixes.add(keyword.substring(0, keyword.length() - PREFIX_WILDCARD.length()));
+            } else {
+                words.add(keyword);
             }
         }
-        return matchedPersons;
+        return addressBook.getPersonsWithNameMatchingAny(words, wordPrefixes);
     }
 
 }
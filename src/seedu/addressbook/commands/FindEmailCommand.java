@@ -0,0 +1,79 @@
+package seedu.addressbook.commands;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Finds and lists all persons in address book whose email is any of the argument emails.
+ * An argument starting with {@link #DOMAIN_PREFIX} matches any email in that domain or its subdomains.
+ * Matching is case insensitive. Private emails are matched, but remain hidden in the listing.
+ */
+public class FindEmailCommand extends Command {
+
+    public static final String COMMAND_WORD = "findemail";
+
+    /** Marks an argument as a domain, e.g. {@code @nus.edu.sg}. */
+    public static final String DOMAIN_PREFIX = "@";
+
+    public static final String MESSAGE_DOMAIN_CONSTRAINTS = "Email domains should be alphanumeric/period strings";
+    public static final String DOMAIN_VALIDATION_REGEX = "[\\w\\.]+";
+    private static final Pattern DOMAIN_VALIDATION_PATTERN = Pattern.compile(DOMAIN_VALIDATION_REGEX);
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons with any of the specified "
+            + "emails (case-insensitive) and displays them as a list with index numbers. "
+            + "Give a domain starting with '" + DOMAIN_PREFIX + "' to match any email in it.\n"
+            + "Parameters: EMAIL [MORE_EMAILS]...\n"
+            + "Example: " + COMMAND_WORD + " johnd@gmail.com " + DOMAIN_PREFIX + "nus.edu.sg";
+
+    private final Set<String> emails = new HashSet<>();
+    private final Set<String> domains = new HashSet<>();
+
+    /**
+     * Convenience constructor using raw values.
+     *
+     * @throws IllegalValueException if any argument is neither a valid email nor a valid domain
+     */
+    public FindEmailCommand(Set<String> arguments) throws IllegalValueException {
+        for (String argument : arguments) {
+            if (argument.startsWith(DOMAIN_PREFIX)) {
+                final String domain = argument.substring(DOMAIN_PREFIX.length());
+                if (!DOMAIN_VALIDATION_PATTERN.matcher(domain).matches()) {
+                    throw new IllegalValueException(MESSAGE_DOMAIN_CONSTRAINTS);
+                }
+                domains.add(domain);
+            } else {
+                if (!Email.isValidEmail(argument)) {
+                    throw new IllegalValueException(Email.MESSAGE_EMAIL_CONSTRAINTS);
+                }
+                emails.add(argument);
+            }
+        }
+    }
+
+    /**
+     * Returns copy of the whole emails searched for.
+     */
+    public Set<String> getEmails() {
+        return new HashSet<>(emails);
+    }
+
+    /**
+     * Returns copy of the email domains searched for.
+     */
+    public Set<String> getDomains() {
+        return new HashSet<>(domains);
+    }
+
+    @Override
+    public CommandResult execute() {
+        final List<ReadOnlyPerson> personsFound = addressBook.getPersonsWithEmailMatchingAny(emails, domains);
+        return new CommandResult(getMessageForPersonListShownSummary(personsFound), personsFound);
+    }
+
+}
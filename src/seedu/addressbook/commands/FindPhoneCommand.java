@@ -0,0 +1,68 @@
+package seedu.addressbook.commands;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Finds and lists all persons in address book whose phone number is any of the argument numbers.
+ * An argument starting with {@link #SUFFIX_WILDCARD} matches any phone number ending with the rest of the argument.
+ * Private phone numbers are matched, but remain hidden in the listing.
+ */
+public class FindPhoneCommand extends Command {
+
+    public static final String COMMAND_WORD = "findphone";
+
+    /** Marks an argument as a suffix when it starts the argument, e.g. {@code *4567}. */
+    public static final String SUFFIX_WILDCARD = "*";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons with any of the specified "
+            + "phone numbers and displays them as a list with index numbers. "
+            + "Start a number with '" + SUFFIX_WILDCARD + "' to match any phone number ending with it.\n"
+            + "Parameters: PHONE_NUMBER [MORE_PHONE_NUMBERS]...\n"
+            + "Example: " + COMMAND_WORD + " 98765432 " + SUFFIX_WILDCARD + "4567";
+
+    private final Set<String> phones = new HashSet<>();
+    private final Set<String> phoneSuffixes = new HashSet<>();
+
+    /**
+     * Convenience constructor using raw values.
+     *
+     * @throws IllegalValueException if any argument, without its wildcard, is not a valid phone number
+     */
+    public FindPhoneCommand(Set<String> arguments) throws IllegalValueException {
+        for (String argument : arguments) {
+            final boolean isSuffix = argument.startsWith(SUFFIX_WILDCARD);
+            final String phone = isSuffix ? argument.substring(SUFFIX_WILDCARD.length()) : argument;
+            if (!Phone.isValidPhone(phone)) {
+                throw new IllegalValueException(Phone.MESSAGE_PHONE_CONSTRAINTS);
+            }
+            (isSuffix ? phoneSuffixes : phones).add(phone);
+        }
+    }
+
+    /**
+     * Returns copy of the whole phone numbers searched for.
+     */
+    public Set<String> getPhones() {
+        return new HashSet<>(phones);
+    }
+
+    /**
+     * Returns copy of the phone number endings searched for.
+     */
+    public Set<String> getPhoneSuffixes() {
+        return new HashSet<>(phoneSuffixes);
+    }
+
+    @Override
+    public CommandResult execute() {
+        final List<ReadOnlyPerson> personsFound = addressBook.getPersonsWithPhoneMatchingAny(phones, phoneSuffixes);
+        return new CommandResult(getMessageForPersonListShownSummary(personsFound), personsFound);
+    }
+
+}
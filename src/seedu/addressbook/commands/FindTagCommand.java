@@ -0,0 +1,67 @@
+package seedu.addressbook.commands;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+
+/**
+ * Finds and lists all persons in address book that carry the argument tags.
+ * Each argument is a group of tags joined by {@link #TAG_CONJUNCTION}; a person is listed if they carry
+ * every tag of at least one group. Tag matching is case sensitive.
+ */
+public class FindTagCommand extends Command {
+
+    public static final String COMMAND_WORD = "findtag";
+
+    /** Joins tags that must all be present, e.g. {@code friends+colleagues}. */
+    public static final String TAG_CONJUNCTION = "+";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons that have any of the specified "
+            + "tags (case-sensitive) and displays them as a list with index numbers. "
+            + "Join tags with '" + TAG_CONJUNCTION + "' to require all of them.\n"
+            + "Parameters: TAG[" + TAG_CONJUNCTION + "MORE_TAGS]... [MORE_TAG_GROUPS]...\n"
+            + "Example: " + COMMAND_WORD + " friends+colleagues family";
+
+    private final List<Set<Tag>> tagGroups;
+
+    /**
+     * Convenience constructor using raw values.
+     *
+     * @param tagGroups each group holds the names of tags that must all be present
+     * @throws IllegalValueException if any tag name is invalid
+     */
+    public FindTagCommand(Collection<? extends Collection<String>> tagGroups) throws IllegalValueException {
+        this.tagGroups = new ArrayList<>();
+        for (Collection<String> group : tagGroups) {
+            final Set<Tag> tags = new HashSet<>();
+            for (String tagName : group) {
+                tags.add(new Tag(tagName));
+            }
+            this.tagGroups.add(tags);
+        }
+    }
+
+    /**
+     * Returns copy of the tag groups in this command.
+     */
+    public List<Set<Tag>> getTagGroups() {
+        final List<Set<Tag>> copy = new ArrayList<>();
+        for (Set<Tag> group : tagGroups) {
+            copy.add(new HashSet<>(group));
+        }
+        return copy;
+    }
+
+    @Override
+    public CommandResult execute() {
+        final List<ReadOnlyPerson> personsFound = addressBook.getPersonsWithAllTagsInAnyGroup(tagGroups);
+        return new CommandResult(getMessageForPersonListShownSummary(personsFound), personsFound);
+    }
+
+}
@@ -0,0 +1,60 @@
+package seedu.addressbook.commands;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Finds and lists all persons in address book whose name contains a word similar to any of the argument keywords,
+ * to tolerate misspellings. Similarity is measured as edit distance, see {@link #getMaxEditDistance(String)}.
+ * Keyword matching is case insensitive.
+ */
+public class FuzzyFindCommand extends Command {
+
+    public static final String COMMAND_WORD = "find~";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain words "
+            + "similar to any of the specified keywords (case-insensitive), allowing for a few misspelt letters, "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alcie bbo";
+
+    private final Set<String> keywords;
+
+    public FuzzyFindCommand(Set<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    /**
+     * Returns copy of keywords in this command.
+     */
+    public Set<String> getKeywords() {
+        return new HashSet<>(keywords);
+    }
+
+    /**
+     * Returns the largest number of single letter insertions, deletions and substitutions a name word may differ
+     * from the keyword by and still match: none for keywords of up to 2 letters, 1 for 3 letters and 2 for longer.
+     */
+    public static int getMaxEditDistance(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        }
+        return keyword.length() == 3 ? 1 : 2;
+    }
+
+    @Override
+    public CommandResult execute() {
+        final Map<String, Integer> maxEditDistanceByKeyword = new HashMap<>();
+        for (String keyword : keywords) {
+            maxEditDistanceByKeyword.put(keyword, getMaxEditDistance(keyword));
+        }
+        final List<ReadOnlyPerson> personsFound = addressBook.getPersonsWithNameSimilarToAny(maxEditDistanceByKeyword);
+        return new CommandResult(getMessageForPersonListShownSummary(personsFound), personsFound);
+    }
+
+}
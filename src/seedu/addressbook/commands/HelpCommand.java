@@ -19,8 +19,15 @@ public class HelpCommand extends Command {
                 AddCommand.MESSAGE_USAGE
                 + "\n" + DeleteCommand.MESSAGE_USAGE
                 + "\n" + ClearCommand.MESSAGE_USAGE
+                + "\n" + ImportCommand.MESSAGE_USAGE
                 + "\n" + FindCommand.MESSAGE_USAGE
+                + "\n" + FuzzyFindCommand.MESSAGE_USAGE
+                + "\n" + FindAddressCommand.MESSAGE_USAGE
+                + "\n" + FindPhoneCommand.MESSAGE_USAGE
+                + "\n" + FindEmailCommand.MESSAGE_USAGE
+                + "\n" + FindTagCommand.MESSAGE_USAGE
                 + "\n" + ListCommand.MESSAGE_USAGE
+                + "\n" + NextCommand.MESSAGE_USAGE
                 + "\n" + ViewCommand.MESSAGE_USAGE
                 + "\n" + ViewAllCommand.MESSAGE_USAGE
                 + "\n" + HelpCommand.MESSAGE_USAGE
@@ -0,0 +1,258 @@
+package seedu.addressbook.commands;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.UniqueTagList;
+
+/**
+ * Adds all persons in a CSV (or TSV) file to the address book.
+ *
+ * The file is read in chunks of lines, and the rows of each chunk are parsed and validated in parallel.
+ * The valid persons are then added to the address book together, as a single change. Rows that cannot be
+ * imported are reported with their line numbers; they do not stop the other rows from being imported.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    /** Files with names ending in this are tab-separated rather than comma-separated. */
+    public static final String TSV_FILE_EXTENSION = ".tsv";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds all persons in a CSV file to the address book "
+            + "(or a tab-separated file, if its name ends in '" + TSV_FILE_EXTENSION + "'). "
+            + "Each line holds NAME,PHONE,EMAIL,ADDRESS[,TAGS] with TAGS separated by spaces. "
+            + "Values may be enclosed in double quotes. A first line of column headings is skipped.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " contacts.csv";
+
+    public static final String MESSAGE_SUCCESS = "%1$d persons imported, %2$d lines rejected";
+    public static final String MESSAGE_FILE_READ_FAILED = "Could not read file %1$s";
+    public static final String MESSAGE_REJECTED_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_REJECTED_LINES = "...and %1$d more rejected lines";
+    public static final String MESSAGE_WRONG_VALUE_COUNT = "Expected 4 or 5 values but found %1$d";
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted value is not closed";
+
+    /** Most rejected lines listed in the result; the rest are only counted. */
+    public static final int MAX_REJECTED_LINES_SHOWN = 100;
+
+    /** Number of lines read before they are parsed, which bounds the raw text held in memory at once. */
+    private static final int LINES_PER_CHUNK = 10000;
+
+    /** Heading of the first column, which marks a first line of column headings. */
+    private static final String NAME_COLUMN_HEADING = "name";
+
+    private static final char QUOTE = '"';
+
+    private static final Pattern TAG_SEPARATOR = Pattern.compile("\\s+");
+
+    private final String filePath;
+
+    public ImportCommand(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Outcome of parsing one line of the file: either a person or the reason the line was rejected.
+     */
+    private static class ParsedLine {
+        final int lineNumber;
+        final Person person;
+        final String rejection;
+
+        ParsedLine(int lineNumber, Person person, String rejection) {
+            this.lineNumber = lineNumber;
+            this.person = person;
+            this.rejection = rejection;
+        }
+    }
+
+    @Override
+    public CommandResult execute() {
+        final List<ParsedLine> parsedLines;
+        try {
+            parsedLines = readAndParseFile();
+        } catch (IOException | InvalidPathException e) {
+            return new CommandResult(String.format(MESSAGE_FILE_READ_FAILED, filePath));
+        }
+
+        final List<Person> persons = new ArrayList<>();
+        final Map<Person, Integer> lineNumbers = new IdentityHashMap<>();
+        final List<ParsedLine> rejectedLines = new ArrayList<>();
+        for (ParsedLine line : parsedLines) {
+            if (line.person == null) {
+                rejectedLines.add(line);
+            } else {
+                persons.add(line.person);
+                lineNumbers.put(line.person, line.lineNumber);
+            }
+        }
+        final List<Person> duplicates = addressBook.addPersons(persons);
+        for (Person duplicate : duplicates) {
+            rejectedLines.add(new ParsedLine(lineNumbers.get(duplicate), null, AddCommand.MESSAGE_DUPLICATE_PERSON));
+        }
+        rejectedLines.sort((first, second) -> Integer.compare(first.lineNumber, second.lineNumber));
+
+        return new CommandResult(getMessageForImportSummary(persons.size() - duplicates.size(), rejectedLines));
+    }
+
+    private static String getMessageForImportSummary(int importedCount, List<ParsedLine> rejectedLines) {
+        final StringBuilder message = new StringBuilder(
+                String.format(MESSAGE_SUCCESS, importedCount, rejectedLines.size()));
+        for (ParsedLine line : rejectedLines.subList(0, Math.min(rejectedLines.size(), MAX_REJECTED_LINES_SHOWN))) {
+            message.append('\n').append(String.format(MESSAGE_REJECTED_LINE, line.lineNumber, line.rejection));
+        }
+        if (rejectedLines.size() > MAX_REJECTED_LINES_SHOWN) {
+            message.append('\n').append(String.format(MESSAGE_MORE_REJECTED_LINES,
+                    rejectedLines.size() - MAX_REJECTED_LINES_SHOWN));
+        }
+        return message.toString();
+    }
+
+    /**
+     * Reads the file a chunk of lines at a time and parses each chunk's lines in parallel.
+     * Blank lines and a first line of column headings are skipped.
+     *
+     * @return the parsed lines, in file order
+     */
+    private List<ParsedLine> readAndParseFile() throws IOException {
+        final char separator = filePath.toLowerCase(Locale.ROOT).endsWith(TSV_FILE_EXTENSION) ? '\t' : ',';
+        final List<ParsedLine> parsedLines = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(filePath))) {
+            final List<String> chunk = new ArrayList<>(LINES_PER_CHUNK);
+            int chunkFirstLineNumber = 1;
+            String line = reader.readLine();
+            if (line != null && isHeadingLine(line, separator)) {
+                line = reader.readLine();
+                chunkFirstLineNumber++;
+            }
+            while (line != null) {
+                chunk.add(line);
+                line = reader.readLine();
+                if (chunk.size() == LINES_PER_CHUNK || line == null) {
+                    parsedLines.addAll(parseLines(chunk, chunkFirstLineNumber, separator));
+                    chunkFirstLineNumber += chunk.size();
+                    chunk.clear();
+                }
+            }
+        }
+        return parsedLines;
+    }
+
+    private static boolean isHeadingLine(String line, char separator) {
+        final int firstSeparator = line.indexOf(separator);
+        final String firstValue = firstSeparator < 0 ? line : line.substring(0, firstSeparator);
+        return firstValue.trim().replace(String.valueOf(QUOTE), "").equalsIgnoreCase(NAME_COLUMN_HEADING);
+    }
+
+    /**
+     * Parses the given lines in parallel, skipping blank lines.
+     *
+     * @param firstLineNumber line number of the first of the lines in the file
+     * @return the parsed lines, in the given order
+     */
+    private static List<ParsedLine> parseLines(List<String> lines, int firstLineNumber, char separator) {
+        return IntStream.range(0, lines.size())
+                .parallel()
+                .filter(i -> !lines.get(i).trim().isEmpty())
+                .mapToObj(i -> parseLine(lines.get(i), firstLineNumber + i, separator))
+                .collect(Collectors.toList());
+    }
+
+    private static ParsedLine parseLine(String line, int lineNumber, char separator) {
+        try {
+            final List<String> values = splitValues(line, separator);
+            if (values.size() < 4 || values.size() > 5) {
+                throw new IllegalValueException(String.format(MESSAGE_WRONG_VALUE_COUNT, values.size()));
+            }
+            final Set<Tag> tags = new LinkedHashSet<>();
+            if (values.size() == 5) {
+                for (String tagName : TAG_SEPARATOR.split(values.get(4))) {
+                    if (!tagName.isEmpty()) {
+                        tags.add(new Tag(tagName));
+                    }
+                }
+            }
+            final Person person = new Person(
+                    new Name(values.get(0)),
+                    new Phone(values.get(1), false),
+                    new Email(values.get(2), false),
+                    new Address(values.get(3), false),
+                    new UniqueTagList(tags));
+            return new ParsedLine(lineNumber, person, null);
+        } catch (IllegalValueException ive) {
+            return new ParsedLine(lineNumber, null, ive.getMessage());
+        }
+    }
+
+    /**
+     * Splits a line into its separated values. A value enclosed in double quotes may contain the separator,
+     * and a doubled double quote within it stands for one double quote. Whitespace around a value is
+     * dropped, unless it is within quotes.
+     *
+     * @throws IllegalValueException if a quoted value is not closed
+     */
+    private static List<String> splitValues(String line, char separator) throws IllegalValueException {
+        final List<String> values = new ArrayList<>();
+        final StringBuilder value = new StringBuilder();
+        int valueLength = 0; // length of the value without its trailing unquoted whitespace
+        boolean isInQuotes = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (isInQuotes) {
+                if (c != QUOTE) {
+                    value.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    value.append(QUOTE);
+                    i++;
+                } else {
+                    isInQuotes = false;
+                }
+                valueLength = value.length();
+            } else if (c == QUOTE) {
+                isInQuotes = true;
+            } else if (c == separator) {
+                values.add(value.substring(0, valueLength));
+                value.setLength(0);
+                valueLength = 0;
+            } else if (Character.isWhitespace(c)) {
+                if (value.length() > 0) {
+                    value.append(c);
+                }
+            } else {
+                value.append(c);
+                valueLength = value.length();
+            }
+        }
+        if (isInQuotes) {
+            throw new IllegalValueException(MESSAGE_UNTERMINATED_QUOTE);
+        }
+        values.add(value.substring(0, valueLength));
+        return values;
+    }
+
+}
@@ -1,25 +1,55 @@
 package seedu.addressbook.commands;
 
+import seedu.addressbook.common.Messages;
 import seedu.addressbook.data.person.ReadOnlyPerson;
 
 import java.util.List;
 
 
 /**
- * Lists all persons in the address book to the user.
+ * Lists all persons in the address book to the user, one page at a time.
  */
 public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Displays all persons in the address book as a list with index numbers.\n"
-            + "Example: " + COMMAND_WORD;
+            + ": Displays all persons in the address book as a list with index numbers, "
+            + CommandResult.PAGE_SIZE + " at a time.\n"
+            + "Parameters: [PAGE_NUMBER]\n"
+            + "Example: " + COMMAND_WORD + " 2";
 
+    private final int pageNumber;
 
+    public ListCommand() {
+        this(1);
+    }
+
+    /**
+     * @param pageNumber the page of the listing to show, starting from 1
+     */
+    public ListCommand(int pageNumber) {
+        this.pageNumber = pageNumber;
+    }
+
+    public int getPageNumber() {
+        return pageNumber;
+    }
+
+    /**
+     * Shows the requested page of all persons.
+     *
+     * The result holds the whole listing, not just the page, so that indices shown on any page (and on pages
+     * reached with {@code next}) keep resolving to the persons shown, even after later commands change the
+     * address book. The listing is the address book's shared snapshot, which is only copied on the first listing
+     * after a change; listing further pages of an unchanged address book copies nothing.
+     */
     @Override
     public CommandResult execute() {
-        List<ReadOnlyPerson> allPersons = addressBook.getAllPersons().immutableListView();
-        return new CommandResult(getMessageForPersonListShownSummary(allPersons), allPersons);
+        List<ReadOnlyPerson> allPersons = addressBook.getAllPersonsSnapshot();
+        if (pageNumber < 1 || pageNumber > CommandResult.getPageCount(allPersons.size())) {
+            return new CommandResult(Messages.MESSAGE_INVALID_PAGE_NUMBER);
+        }
+        return new CommandResult(getMessageForPersonListShownSummary(allPersons), allPersons, pageNumber);
     }
 }
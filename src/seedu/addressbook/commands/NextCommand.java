@@ -0,0 +1,27 @@
+package seedu.addressbook.commands;
+
+import seedu.addressbook.common.Messages;
+
+
+/**
+ * Shows the next page of the most recent listing of persons.
+ */
+public class NextCommand extends Command {
+
+    public static final String COMMAND_WORD = "next";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Displays the next page of the most recent listing of persons.\n"
+            + "Example: " + COMMAND_WORD;
+
+
+    @Override
+    public CommandResult execute() {
+        final int nextPageNumber = relevantPageNumber + 1;
+        if (nextPageNumber > CommandResult.getPageCount(relevantPersons.size())) {
+            return new CommandResult(Messages.MESSAGE_NO_MORE_PAGES);
+        }
+        return new CommandResult(getMessageForPersonListShownSummary(relevantPersons), relevantPersons,
+                nextPageNumber);
+    }
+}
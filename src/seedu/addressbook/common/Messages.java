@@ -8,11 +8,19 @@ public class Messages {
     public static final String MESSAGE_GOODBYE = "Good bye!";
     public static final String MESSAGE_INIT_FAILED = "Failed to initialise address book application. Exiting...";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
+    public static final String MESSAGE_INVALID_LAUNCH_ARG_VALUE = "Launch argument %1$s needs a valid value";
+    public static final String MESSAGE_LAUNCH_ARG_NEEDS_OTHER = "Launch argument %1$s can only be used with %2$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
+    public static final String MESSAGE_INVALID_PAGE_NUMBER = "The page number provided is invalid";
+    public static final String MESSAGE_NEXT_PAGE_HINT = "Enter '%1$s' to see the next page.";
+    public static final String MESSAGE_NO_MORE_PAGES = "There are no more persons to show";
     public static final String MESSAGE_PERSON_NOT_IN_ADDRESSBOOK = "Person could not be found in address book";
+    public static final String MESSAGE_PAGE_SHOWN = "Showing page %1$d of %2$d.";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_SCRIPT_EXECUTED = "%1$d commands executed from %2$s";
+    public static final String MESSAGE_SCRIPT_READ_FAILED = "Could not read script file %1$s: %2$s";
     public static final String MESSAGE_PROGRAM_LAUNCH_ARGS_USAGE = "Launch command format: " +
-            "java seedu.addressbook.Main [STORAGE_FILE_PATH]";
+            "java seedu.addressbook.Main [--journal] [--batch SCRIPT_FILE [--save-every N]] [STORAGE_FILE_PATH]";
     public static final String MESSAGE_WELCOME = "Welcome to your Address Book!";
     public static final String MESSAGE_USING_STORAGE_FILE = "Using storage file : %1$s";
 }
@@ -6,10 +6,18 @@ import seedu.addressbook.data.tag.UniqueTagList;
 import seedu.addressbook.data.tag.UniqueTagList.*;
 import seedu.addressbook.data.tag.Tag;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Represents the entire address book. Contains the data of the address book.
@@ -20,8 +28,23 @@ import java.util.Set;
  */
 public class AddressBook {
 
+    /** Default number of persons from which predicate searches are evaluated in parallel. */
+    public static final int DEFAULT_PARALLEL_SEARCH_THRESHOLD = 20000;
+
+    private static final String EMAIL_DOMAIN_SEPARATOR = "@";
+    private static final String SUBDOMAIN_SEPARATOR = ".";
+
     private final UniquePersonList allPersons;
     private final UniqueTagList allTags; // can contain tags not attached to any person
+    private final Map<Tag, Tag> masterTagObjects = new HashMap<>(); // each tag in allTags, mapped to itself
+    private final PersonNameIndex nameIndex = new PersonNameIndex();
+    private final PersonTagIndex tagIndex = new PersonTagIndex();
+    private final PersonDetailIndex phoneIndex = new PersonDetailIndex(person -> person.getPhone().value);
+    private final PersonDetailIndex emailIndex =
+            new PersonDetailIndex(person -> toEmailKey(person.getEmail().value));
+    private final List<AddressBookChangeListener> changeListeners = new ArrayList<>();
+    private long modificationCount = 0;
+    private int parallelSearchThreshold = DEFAULT_PARALLEL_SEARCH_THRESHOLD;
 
     /**
      * Creates an empty address book.
@@ -41,8 +64,15 @@ public class AddressBook {
     public AddressBook(UniquePersonList persons, UniqueTagList tags) {
         this.allPersons = new UniquePersonList(persons);
         this.allTags = new UniqueTagList(tags);
+        for (Tag tag : allTags) {
+            masterTagObjects.put(tag, tag);
+        }
+        syncTagsWithMasterList(allPersons);
         for (Person p : allPersons) {
-            syncTagsWithMasterList(p);
+            nameIndex.add(p);
+            tagIndex.add(p);
+            phoneIndex.add(p);
+            emailIndex.add(p);
         }
     }
 
@@ -52,21 +82,50 @@ public class AddressBook {
      *  - points to a Tag object in the master list
      */
     private void syncTagsWithMasterList(Person person) {
-        final UniqueTagList personTags = person.getTags();
-        allTags.mergeFrom(personTags);
+        syncTagsWithMasterList(Collections.singletonList(person));
+    }
 
-        // Create map with values = tag object references in the master list
-        final Map<Tag, Tag> masterTagObjects = new HashMap<>();
-        for (Tag tag : allTags) {
-            masterTagObjects.put(tag, tag);
+    /**
+     * Ensures that every tag in these persons:
+     *  - exists in the master list {@link #allTags}
+     *  - points to a Tag object in the master list
+     * The tags new to the master list are merged into it once for the whole batch, before any person is updated.
+     */
+    private void syncTagsWithMasterList(Iterable<Person> persons) {
+        for (Person person : persons) {
+            for (Tag tag : person.getTagsView()) {
+                if (!masterTagObjects.containsKey(tag)) {
+                    masterTagObjects.put(tag, tag);
+                    try {
+                        allTags.add(tag);
+                    } catch (DuplicateTagException dte) {
+                        throw new AssertionError("master tag map is out of sync with the tag list", dte);
+                    }
+                }
+            }
+        }
+
+        // Rebuild the lists of person tags using references from the master list, where they differ
+        for (Person person : persons) {
+            final Set<Tag> personTags = person.getTagsView();
+            if (isUsingMasterTags(personTags)) {
+                continue;
+            }
+            final Set<Tag> commonTagReferences = new LinkedHashSet<>();
+            for (Tag tag : personTags) {
+                commonTagReferences.add(masterTagObjects.get(tag));
+            }
+            person.setTags(new UniqueTagList(commonTagReferences));
         }
+    }
 
-        // Rebuild the list of person tags using references from the master list
-        final Set<Tag> commonTagReferences = new HashSet<>();
-        for (Tag tag : personTags) {
-            commonTagReferences.add(masterTagObjects.get(tag));
+    private boolean isUsingMasterTags(Set<Tag> tags) {
+        for (Tag tag : tags) {
+            if (masterTagObjects.get(tag) != tag) {
+                return false;
+            }
         }
-        person.setTags(new UniqueTagList(commonTagReferences));
+        return true;
     }
 
     /**
@@ -77,8 +136,56 @@ public class AddressBook {
      * @throws DuplicatePersonException if an equivalent person already exists.
      */
     public void addPerson(Person toAdd) throws DuplicatePersonException {
-        syncTagsWithMasterList(toAdd);
         allPersons.add(toAdd);
+        // only once the person is known to be new, so a rejected duplicate leaves the tags unchanged
+        syncTagsWithMasterList(toAdd);
+        nameIndex.add(toAdd);
+        tagIndex.add(toAdd);
+        phoneIndex.add(toAdd);
+        emailIndex.add(toAdd);
+        modificationCount++;
+        for (AddressBookChangeListener listener : changeListeners) {
+            listener.personAdded(toAdd);
+        }
+    }
+
+    /**
+     * Adds the given persons to the address book, skipping any person equivalent to one already
+     * in the address book or earlier in the list. Tags are synced as in {@link #addPerson(Person)}, but
+     * once for the whole batch. Listeners are notified of all added persons at once, as a single change.
+     *
+     * @return the persons skipped as duplicates, in list order
+     */
+    public List<Person> addPersons(List<Person> toAdd) {
+        final List<Person> added = new ArrayList<>(toAdd.size());
+        final List<Person> duplicates = new ArrayList<>();
+        for (Person person : toAdd) {
+            if (allPersons.contains(person)) {
+                duplicates.add(person);
+                continue;
+            }
+            try {
+                allPersons.add(person);
+            } catch (DuplicatePersonException dpe) {
+                throw new AssertionError("person is known to be absent", dpe);
+            }
+            added.add(person);
+        }
+        if (added.isEmpty()) {
+            return duplicates;
+        }
+        syncTagsWithMasterList(added);
+        for (Person person : added) {
+            nameIndex.add(person);
+            tagIndex.add(person);
+            phoneIndex.add(person);
+            emailIndex.add(person);
+        }
+        modificationCount++;
+        for (AddressBookChangeListener listener : changeListeners) {
+            listener.personsAdded(added);
+        }
+        return duplicates;
     }
 
     /**
@@ -88,6 +195,11 @@ public class AddressBook {
      */
     public void addTag(Tag toAdd) throws DuplicateTagException {
         allTags.add(toAdd);
+        masterTagObjects.put(toAdd, toAdd);
+        modificationCount++;
+        for (AddressBookChangeListener listener : changeListeners) {
+            listener.tagAdded(toAdd);
+        }
     }
 
     /**
@@ -110,7 +222,15 @@ public class AddressBook {
      * @throws PersonNotFoundException if no such Person could be found.
      */
     public void removePerson(ReadOnlyPerson toRemove) throws PersonNotFoundException {
-        allPersons.remove(toRemove);
+        final Person removed = allPersons.remove(toRemove);
+        nameIndex.remove(removed);
+        tagIndex.remove(removed);
+        phoneIndex.remove(removed);
+        emailIndex.remove(removed);
+        modificationCount++;
+        for (AddressBookChangeListener listener : changeListeners) {
+            listener.personRemoved(removed);
+        }
     }
 
     /**
@@ -120,6 +240,11 @@ public class AddressBook {
      */
     public void removeTag(Tag toRemove) throws TagNotFoundException {
         allTags.remove(toRemove);
+        masterTagObjects.remove(toRemove);
+        modificationCount++;
+        for (AddressBookChangeListener listener : changeListeners) {
+            listener.tagRemoved(toRemove);
+        }
     }
 
     /**
@@ -128,6 +253,128 @@ public class AddressBook {
     public void clear() {
         allPersons.clear();
         allTags.clear();
+        masterTagObjects.clear();
+        nameIndex.clear();
+        tagIndex.clear();
+        phoneIndex.clear();
+        emailIndex.clear();
+        modificationCount++;
+        for (AddressBookChangeListener listener : changeListeners) {
+            listener.cleared();
+        }
+    }
+
+    /**
+     * Returns the number of changes made to this address book since it was created.
+     * Two equal counts observed on the same address book mean nothing changed in between.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Registers a listener to be notified after every successful change to this address book.
+     */
+    public void addChangeListener(AddressBookChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Stops notifying the given listener of changes to this address book.
+     */
+    public void removeChangeListener(AddressBookChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
+    /**
+     * Retrieves all persons satisfying the given predicate, in the order of the person list.
+     * This scans every person, so prefer an indexed search where one exists. On books of at least
+     * {@link #setParallelSearchThreshold(int) the parallel search threshold}, the person list is split into chunks
+     * that are evaluated in parallel on the common fork-join pool, so the predicate must be thread-safe.
+     */
+    public List<ReadOnlyPerson> getPersonsMatching(Predicate<? super ReadOnlyPerson> predicate) {
+        final List<ReadOnlyPerson> persons = allPersons.snapshot();
+        final Stream<ReadOnlyPerson> personStream =
+                persons.size() >= parallelSearchThreshold ? persons.parallelStream() : persons.stream();
+        return personStream.filter(predicate).collect(Collectors.toList());
+    }
+
+    /**
+     * Sets the number of persons from which {@link #getPersonsMatching(Predicate)} evaluates the predicate
+     * in parallel. Smaller books are scanned sequentially, as splitting the work would cost more than it saves.
+     */
+    public void setParallelSearchThreshold(int parallelSearchThreshold) {
+        this.parallelSearchThreshold = parallelSearchThreshold;
+    }
+
+    /**
+     * Retrieves all persons whose names contain any of the given words, in the order of the person list.
+     * Word matching is case insensitive. Served from a name index, so the cost scales with the number of matches.
+     */
+    public List<ReadOnlyPerson> getPersonsWithNameContainingAnyWord(Collection<String> words) {
+        return nameIndex.getPersonsWithNameMatchingAny(words, Collections.emptyList());
+    }
+
+    /**
+     * Retrieves all persons whose names contain any of the given words, or any word starting with one of the given
+     * prefixes, in the order of the person list. Matching is case insensitive.
+     * Served from a sorted name index, so the cost scales with the number of matching words and persons.
+     */
+    public List<ReadOnlyPerson> getPersonsWithNameMatchingAny(Collection<String> words,
+                                                              Collection<String> wordPrefixes) {
+        return nameIndex.getPersonsWithNameMatchingAny(words, wordPrefixes);
+    }
+
+    /**
+     * Retrieves all persons whose names contain a word within the given edit distance of any of the given words,
+     * in the order of the person list. Matching is case insensitive.
+     * Served from a BK-tree over the distinct name words, so the book is not scanned.
+     *
+     * @param maxEditDistanceByWord the words to search for, each with the largest edit distance it may match at
+     */
+    public List<ReadOnlyPerson> getPersonsWithNameSimilarToAny(Map<String, Integer> maxEditDistanceByWord) {
+        return nameIndex.getPersonsWithNameSimilarToAny(maxEditDistanceByWord);
+    }
+
+    /**
+     * Retrieves all persons whose phone number is any of the given numbers or ends with any of the given digits,
+     * in the order of the person list. Private phone numbers are matched too.
+     * Served from a phone number index, so the cost scales with the number of matches.
+     */
+    public List<ReadOnlyPerson> getPersonsWithPhoneMatchingAny(Collection<String> phones,
+                                                               Collection<String> phoneSuffixes) {
+        return phoneIndex.getPersonsWithKeyMatchingAny(phones, phoneSuffixes);
+    }
+
+    /**
+     * Retrieves all persons whose email is any of the given emails or belongs to any of the given domains
+     * (including their subdomains), in the order of the person list. Matching is case insensitive.
+     * Private emails are matched too. Served from an email index, so the cost scales with the number of matches.
+     */
+    public List<ReadOnlyPerson> getPersonsWithEmailMatchingAny(Collection<String> emails,
+                                                               Collection<String> domains) {
+        final List<String> emailKeys = new ArrayList<>();
+        for (String email : emails) {
+            emailKeys.add(toEmailKey(email));
+        }
+        final List<String> domainSuffixes = new ArrayList<>();
+        for (String domain : domains) {
+            domainSuffixes.add(EMAIL_DOMAIN_SEPARATOR + toEmailKey(domain));
+            domainSuffixes.add(SUBDOMAIN_SEPARATOR + toEmailKey(domain));
+        }
+        return emailIndex.getPersonsWithKeyMatchingAny(emailKeys, domainSuffixes);
+    }
+
+    private static String toEmailKey(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Retrieves all persons that have every tag in at least one of the given groups, in the order of the person list.
+     * Served from a bitmap index over tags, so each group costs a few bitmap intersections.
+     */
+    public List<ReadOnlyPerson> getPersonsWithAllTagsInAnyGroup(Collection<? extends Collection<Tag>> tagGroups) {
+        return tagIndex.getPersonsWithAllTagsInAnyGroup(tagGroups);
     }
 
     /**
@@ -144,6 +391,21 @@ public class AddressBook {
         return new UniqueTagList(allTags);
     }
 
+    /**
+     * Unmodifiable list of all persons in the address book at the time of the call.
+     * Unlike {@link #getAllPersons()} this does not copy on every call: the list is shared until the next change.
+     */
+    public List<ReadOnlyPerson> getAllPersonsSnapshot() {
+        return allPersons.snapshot();
+    }
+
+    /**
+     * Unmodifiable view of all tags in the address book. Changes to the address book are visible in the view.
+     */
+    public Set<Tag> getAllTagsView() {
+        return allTags.toSet();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,47 @@
+package seedu.addressbook.data;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+
+import java.util.List;
+
+/**
+ * Receives a notification after each successful change made to an {@link AddressBook}.
+ */
+public interface AddressBookChangeListener {
+
+    /**
+     * Called after {@code person} has been added to the address book.
+     */
+    void personAdded(ReadOnlyPerson person);
+
+    /**
+     * Called after {@code persons} have been added to the address book together, as one change.
+     * By default, handled as each person being added in turn.
+     */
+    default void personsAdded(List<? extends ReadOnlyPerson> persons) {
+        for (ReadOnlyPerson person : persons) {
+            personAdded(person);
+        }
+    }
+
+    /**
+     * Called after {@code person} has been removed from the address book.
+     */
+    void personRemoved(ReadOnlyPerson person);
+
+    /**
+     * Called after {@code tag} has been added to the master tag list.
+     */
+    void tagAdded(Tag tag);
+
+    /**
+     * Called after {@code tag} has been removed from the master tag list.
+     */
+    void tagRemoved(Tag tag);
+
+    /**
+     * Called after all persons and tags have been cleared from the address book.
+     */
+    void cleared();
+}
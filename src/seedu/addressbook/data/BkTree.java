@@ -0,0 +1,123 @@
+package seedu.addressbook.data;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Burkhard-Keller tree of words under the Levenshtein (edit) distance, for finding all words within a given
+ * distance of a query word without comparing the query against every word.
+ *
+ * Each child of a node is keyed by its distance to that node. By the triangle inequality, a search for words within
+ * distance k of the query only needs to descend into children whose key is within k of the query's distance to
+ * the node, which prunes most of the tree for small k.
+ *
+ * Words cannot be removed; rebuild the tree once too many of its words are no longer wanted.
+ */
+class BkTree {
+
+    private static class Node {
+        final String word;
+        final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+
+    private Node root;
+    private int size = 0;
+
+    /**
+     * Adds the word to the tree if not already present.
+     */
+    void add(String word) {
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            final int distance = editDistance(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            final Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the number of distinct words in the tree.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Removes all words from the tree.
+     */
+    void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Returns all words in the tree within the given edit distance of the query word.
+     */
+    List<String> getWordsWithinDistance(String query, int maxDistance) {
+        final List<String> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+        final Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            final Node node = toVisit.pop();
+            final int distance = editDistance(query, node.word);
+            if (distance <= maxDistance) {
+                matches.add(node.word);
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    toVisit.push(child.getValue());
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the minimum number of single character insertions, deletions and substitutions
+     * needed to turn one word into the other.
+     */
+    static int editDistance(String first, String second) {
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            final char firstChar = first.charAt(i - 1);
+            for (int j = 1; j <= second.length(); j++) {
+                final int substitutionCost = firstChar == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(Math.min(currentRow[j - 1] + 1, previousRow[j] + 1),
+                        previousRow[j - 1] + substitutionCost);
+            }
+            final int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.addressbook.data;
+
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Gives every person added to an index an increasing sequence number, so that lookups can return persons
+ * in the order they were indexed, i.e. the order of the address book's person list.
+ * An index keeps its postings keyed by sequence number, and merges the postings a lookup finds with {@link Matches}.
+ */
+class IndexingOrder {
+
+    /**
+     * Persons found by a lookup, merged from any number of postings and kept in indexing order.
+     */
+    static class Matches {
+        private final TreeMap<Long, Person> persons = new TreeMap<>();
+
+        void addAll(Map<Long, Person> posting) {
+            persons.putAll(posting);
+        }
+
+        List<ReadOnlyPerson> toList() {
+            return new ArrayList<>(persons.values());
+        }
+    }
+
+    private final Map<Person, Long> sequenceNumbers = new IdentityHashMap<>();
+    private long nextSequenceNumber = 0;
+
+    /**
+     * Gives the given person the next sequence number.
+     *
+     * @return the person's sequence number
+     */
+    Long add(Person person) {
+        final Long sequenceNumber = nextSequenceNumber++;
+        sequenceNumbers.put(person, sequenceNumber);
+        return sequenceNumber;
+    }
+
+    /**
+     * Takes back the sequence number of the given person (the exact instance that was added).
+     *
+     * @return the person's sequence number, or null if it was not added
+     */
+    Long remove(Person person) {
+        return sequenceNumbers.remove(person);
+    }
+
+    /**
+     * Takes back the sequence numbers of all persons. Numbers are not reused.
+     */
+    void clear() {
+        sequenceNumbers.clear();
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.addressbook.data;
+
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Index from one contact detail (e.g. phone number) of each person to the persons having that value.
+ * Values are stored reversed and sorted, so both exact values and value suffixes (e.g. the last digits of a phone
+ * number or the domain of an email) are found without scanning all persons.
+ * Private values are indexed too; hiding them from the user is up to whoever displays the persons found.
+ *
+ * As in {@link PersonNameIndex}, lookups return persons in the order they were indexed (see {@link IndexingOrder}).
+ */
+class PersonDetailIndex {
+
+    private final Function<ReadOnlyPerson, String> keyExtractor;
+    private final NavigableMap<String, Map<Long, Person>> postingsByReversedKey = new TreeMap<>();
+    private final IndexingOrder indexingOrder = new IndexingOrder();
+
+    /**
+     * @param keyExtractor gives the value a person is indexed by, already in the form lookups will use
+     */
+    PersonDetailIndex(Function<ReadOnlyPerson, String> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Adds the given person under its key.
+     */
+    void add(Person person) {
+        final Long sequenceNumber = indexingOrder.add(person);
+        postingsByReversedKey.computeIfAbsent(reverse(keyExtractor.apply(person)), k -> new HashMap<>())
+                .put(sequenceNumber, person);
+    }
+
+    /**
+     * Removes the given person (the exact instance that was added) from the index.
+     */
+    void remove(Person person) {
+        final Long sequenceNumber = indexingOrder.remove(person);
+        if (sequenceNumber == null) {
+            return;
+        }
+        final String reversedKey = reverse(keyExtractor.apply(person));
+        final Map<Long, Person> posting = postingsByReversedKey.get(reversedKey);
+        if (posting == null) {
+            return;
+        }
+        posting.remove(sequenceNumber);
+        if (posting.isEmpty()) {
+            postingsByReversedKey.remove(reversedKey);
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    void clear() {
+        postingsByReversedKey.clear();
+        indexingOrder.clear();
+    }
+
+    /**
+     * Returns the persons whose key equals any of the given keys or ends with any of the given suffixes,
+     * in indexing order. The cost is proportional to the number of matching keys and persons.
+     */
+    List<ReadOnlyPerson> getPersonsWithKeyMatchingAny(Collection<String> keys, Collection<String> keySuffixes) {
+        final IndexingOrder.Matches matches = new IndexingOrder.Matches();
+        for (String key : keys) {
+            final Map<Long, Person> posting = postingsByReversedKey.get(reverse(key));
+            if (posting != null) {
+                matches.addAll(posting);
+            }
+        }
+        for (String suffix : keySuffixes) {
+            final String reversedSuffix = reverse(suffix);
+            // reversed keys ending with the suffix start with the reversed suffix, so they are contiguous
+            for (Map.Entry<String, Map<Long, Person>> entry
+                    : postingsByReversedKey.tailMap(reversedSuffix, true).entrySet()) {
+                if (!entry.getKey().startsWith(reversedSuffix)) {
+                    break;
+                }
+                matches.addAll(entry.getValue());
+            }
+        }
+        return matches.toList();
+    }
+
+    private static String reverse(String value) {
+        return new StringBuilder(value).reverse().toString();
+    }
+}
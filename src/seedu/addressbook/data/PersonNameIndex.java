@@ -0,0 +1,143 @@
+package seedu.addressbook.data;
+
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Inverted index from each word in a person's name to the persons whose name contains that word.
+ * Words, as given by {@link seedu.addressbook.data.person.Name#getWordsInName()}, are indexed by their search key
+ * (see {@link #toSearchKey(String)}), so matching ignores case and Unicode compatibility differences. Search keys
+ * are computed once when a person is indexed, and once per word at lookup.
+ * Keys are kept sorted, so all keys starting with a given prefix form one contiguous range of the index,
+ * and are also kept in a {@link BkTree} for finding keys within a small edit distance of a misspelt word.
+ *
+ * Lookups return persons in the order they were indexed, i.e. the order of the address book's person list
+ * (see {@link IndexingOrder}).
+ */
+class PersonNameIndex {
+
+    /** Minimum number of keys no longer in use before the BK-tree is rebuilt to drop them. */
+    private static final int MIN_STALE_KEYS_FOR_REBUILD = 1024;
+
+    private final NavigableMap<String, Map<Long, Person>> postings = new TreeMap<>();
+    private final BkTree keyTree = new BkTree(); // may also contain keys whose persons were all removed
+    private final IndexingOrder indexingOrder = new IndexingOrder();
+
+    /**
+     * Adds the given person under every word in its name.
+     */
+    void add(Person person) {
+        final Long sequenceNumber = indexingOrder.add(person);
+        for (String word : person.getName().getWordsInName()) {
+            final String key = toSearchKey(word);
+            Map<Long, Person> posting = postings.get(key);
+            if (posting == null) {
+                posting = new HashMap<>();
+                postings.put(key, posting);
+                keyTree.add(key);
+            }
+            posting.put(sequenceNumber, person);
+        }
+    }
+
+    /**
+     * Removes the given person (the exact instance that was added) from the index.
+     */
+    void remove(Person person) {
+        final Long sequenceNumber = indexingOrder.remove(person);
+        if (sequenceNumber == null) {
+            return;
+        }
+        for (String word : person.getName().getWordsInName()) {
+            final String key = toSearchKey(word);
+            final Map<Long, Person> posting = postings.get(key);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(sequenceNumber);
+            if (posting.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+        final int staleKeys = keyTree.size() - postings.size();
+        if (staleKeys >= MIN_STALE_KEYS_FOR_REBUILD && staleKeys > postings.size()) {
+            keyTree.clear();
+            for (String key : postings.keySet()) {
+                keyTree.add(key);
+            }
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    void clear() {
+        postings.clear();
+        keyTree.clear();
+        indexingOrder.clear();
+    }
+
+    /**
+     * Returns the key a word is indexed and looked up by: its NFKC normal form, case folded.
+     * For example, {@code "JOHN"}, {@code "john"} and its full-width form all have the key {@code "john"}.
+     */
+    static String toSearchKey(String word) {
+        final String normalized = Normalizer.normalize(word, Normalizer.Form.NFKC);
+        // upper then lower case also folds characters with no single lower case form, e.g. sharp s becomes "ss"
+        return normalized.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the persons whose names contain any of the given words, or any word starting with one of the given
+     * prefixes, in indexing order.
+     * The cost is proportional to the number of matching words and persons, not the number of indexed persons.
+     */
+    List<ReadOnlyPerson> getPersonsWithNameMatchingAny(Collection<String> words, Collection<String> wordPrefixes) {
+        final IndexingOrder.Matches matches = new IndexingOrder.Matches();
+        for (String word : words) {
+            final Map<Long, Person> posting = postings.get(toSearchKey(word));
+            if (posting != null) {
+                matches.addAll(posting);
+            }
+        }
+        for (String wordPrefix : wordPrefixes) {
+            final String prefix = toSearchKey(wordPrefix);
+            // keys starting with the prefix are contiguous in sort order, beginning at the prefix itself
+            for (Map.Entry<String, Map<Long, Person>> entry : postings.tailMap(prefix, true).entrySet()) {
+                if (!entry.getKey().startsWith(prefix)) {
+                    break;
+                }
+                matches.addAll(entry.getValue());
+            }
+        }
+        return matches.toList();
+    }
+
+    /**
+     * Returns the persons whose names contain a word within the given edit distance of any of the given words,
+     * in indexing order. Distances are measured between search keys, so case differences cost nothing.
+     *
+     * @param maxEditDistanceByWord the words to search for, each with the largest edit distance it may match at
+     */
+    List<ReadOnlyPerson> getPersonsWithNameSimilarToAny(Map<String, Integer> maxEditDistanceByWord) {
+        final IndexingOrder.Matches matches = new IndexingOrder.Matches();
+        for (Map.Entry<String, Integer> entry : maxEditDistanceByWord.entrySet()) {
+            for (String key : keyTree.getWordsWithinDistance(toSearchKey(entry.getKey()), entry.getValue())) {
+                final Map<Long, Person> posting = postings.get(key);
+                if (posting != null) {
+                    matches.addAll(posting);
+                }
+            }
+        }
+        return matches.toList();
+    }
+}
@@ -0,0 +1,260 @@
+package seedu.addressbook.data;
+
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index from each tag to the persons carrying that tag.
+ *
+ * Every indexed person is given the next free slot number, and each tag maps to the set of slots of the persons
+ * carrying it, so AND/OR queries over tags are set intersections and unions. Slots are assigned in increasing
+ * order, so results come out in the order persons were indexed, i.e. the order of the address book's person list.
+ *
+ * A tag carried by many persons keeps its slots as a bitmap, which costs one bit per slot up to its highest, and
+ * is intersected a word at a time. A rare tag keeps them as a sorted array instead, which costs 32 bits per person
+ * carrying it but nothing for the slots in between, so many rare tags do not cost memory in proportion to the
+ * size of the address book each. See {@link Posting} for when a tag switches between the two.
+ */
+class PersonTagIndex {
+
+    /** Minimum number of vacated slots before the slots are renumbered to close the gaps. */
+    private static final int MIN_VACANT_SLOTS_FOR_COMPACTION = 1024;
+
+    /**
+     * The slots of the persons carrying one tag, as a sorted array while that is smaller than a bitmap would be.
+     *
+     * An array entry costs as much as {@link #BITMAP_SLOTS_PER_ARRAY_ENTRY} bitmap bits, so the array becomes a
+     * bitmap once more than that fraction of the slots up to its highest carry the tag (and it has at least
+     * {@link #MIN_SIZE_FOR_BITMAP} slots, below which both are tiny). A bitmap only becomes an array again once it
+     * is twice as large as the array would be, so that a tag near the threshold does not switch back and forth.
+     */
+    private static class Posting {
+        private static final int BITMAP_SLOTS_PER_ARRAY_ENTRY = Integer.SIZE;
+        private static final int MIN_SIZE_FOR_BITMAP = 64;
+
+        private int[] sortedSlots = new int[2]; // null while the bitmap is in use
+        private BitSet bitmap;
+        private int size = 0;
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void add(int slot) {
+            if (bitmap != null) {
+                if (!bitmap.get(slot)) {
+                    bitmap.set(slot);
+                    size++;
+                }
+                return;
+            }
+            // slots are usually added in increasing order, so this is usually an append
+            int index = size > 0 && sortedSlots[size - 1] < slot
+                    ? -size - 1
+                    : Arrays.binarySearch(sortedSlots, 0, size, slot);
+            if (index >= 0) {
+                return;
+            }
+            index = -index - 1;
+            if (size == sortedSlots.length) {
+                sortedSlots = Arrays.copyOf(sortedSlots, size * 2);
+            }
+            System.arraycopy(sortedSlots, index, sortedSlots, index + 1, size - index);
+            sortedSlots[index] = slot;
+            size++;
+            if (size >= MIN_SIZE_FOR_BITMAP && (long) size * BITMAP_SLOTS_PER_ARRAY_ENTRY > sortedSlots[size - 1] + 1) {
+                switchToBitmap();
+            }
+        }
+
+        void remove(int slot) {
+            if (bitmap != null) {
+                if (bitmap.get(slot)) {
+                    bitmap.clear(slot);
+                    size--;
+                }
+                if ((long) size * BITMAP_SLOTS_PER_ARRAY_ENTRY * 2 < bitmap.length()) {
+                    switchToArray();
+                }
+                return;
+            }
+            final int index = Arrays.binarySearch(sortedSlots, 0, size, slot);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(sortedSlots, index + 1, sortedSlots, index, size - index - 1);
+            size--;
+        }
+
+        boolean contains(int slot) {
+            return bitmap != null ? bitmap.get(slot) : Arrays.binarySearch(sortedSlots, 0, size, slot) >= 0;
+        }
+
+        /**
+         * Returns the slots as a new bitmap.
+         */
+        BitSet toBitSet() {
+            if (bitmap != null) {
+                return (BitSet) bitmap.clone();
+            }
+            final BitSet slots = new BitSet(size == 0 ? 0 : sortedSlots[size - 1] + 1);
+            for (int i = 0; i < size; i++) {
+                slots.set(sortedSlots[i]);
+            }
+            return slots;
+        }
+
+        /**
+         * Removes from the given slots those not in this posting.
+         */
+        void retainIn(BitSet slots) {
+            if (bitmap != null) {
+                slots.and(bitmap);
+                return;
+            }
+            for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+                if (!contains(slot)) {
+                    slots.clear(slot);
+                }
+            }
+        }
+
+        private void switchToBitmap() {
+            bitmap = toBitSet();
+            sortedSlots = null;
+        }
+
+        private void switchToArray() {
+            sortedSlots = new int[Math.max(2, size)];
+            int i = 0;
+            for (int slot = bitmap.nextSetBit(0); slot >= 0; slot = bitmap.nextSetBit(slot + 1)) {
+                sortedSlots[i++] = slot;
+            }
+            bitmap = null;
+        }
+    }
+
+    private final Map<Tag, Posting> postings = new HashMap<>();
+    private final Map<Person, Integer> slots = new IdentityHashMap<>();
+    private final List<Person> personsBySlot = new ArrayList<>(); // null for vacated slots
+
+    /**
+     * Adds the given person under each of its tags.
+     */
+    void add(Person person) {
+        final int slot = personsBySlot.size();
+        personsBySlot.add(person);
+        slots.put(person, slot);
+        for (Tag tag : person.getTagsView()) {
+            postings.computeIfAbsent(tag, t -> new Posting()).add(slot);
+        }
+    }
+
+    /**
+     * Removes the given person (the exact instance that was added) from the index.
+     */
+    void remove(Person person) {
+        final Integer slot = slots.remove(person);
+        if (slot == null) {
+            return;
+        }
+        personsBySlot.set(slot, null);
+        for (Tag tag : person.getTagsView()) {
+            final Posting posting = postings.get(tag);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(slot);
+            if (posting.isEmpty()) {
+                postings.remove(tag);
+            }
+        }
+        final int vacantSlots = personsBySlot.size() - slots.size();
+        if (vacantSlots >= MIN_VACANT_SLOTS_FOR_COMPACTION && vacantSlots > slots.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    void clear() {
+        postings.clear();
+        slots.clear();
+        personsBySlot.clear();
+    }
+
+    /**
+     * Returns the persons that carry every tag in at least one of the given groups, in indexing order.
+     * An empty group matches no one.
+     */
+    List<ReadOnlyPerson> getPersonsWithAllTagsInAnyGroup(Collection<? extends Collection<Tag>> tagGroups) {
+        final BitSet matches = new BitSet();
+        for (Collection<Tag> group : tagGroups) {
+            matches.or(getSlotsWithAllTags(group));
+        }
+        final List<ReadOnlyPerson> persons = new ArrayList<>(matches.cardinality());
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            persons.add(personsBySlot.get(slot));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the slots of the persons carrying all the given tags, as a new bitmap.
+     * The intersection starts from the tag carried by the fewest persons.
+     */
+    private BitSet getSlotsWithAllTags(Collection<Tag> tags) {
+        Posting smallest = null;
+        for (Tag tag : tags) {
+            final Posting posting = postings.get(tag);
+            if (posting == null) {
+                return new BitSet();
+            }
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+        if (smallest == null) {
+            return new BitSet();
+        }
+        final BitSet result = smallest.toBitSet();
+        for (Tag tag : tags) {
+            final Posting posting = postings.get(tag);
+            if (posting != smallest) {
+                posting.retainIn(result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Renumbers the persons into consecutive slots, keeping their order, and rebuilds the postings.
+     */
+    private void compact() {
+        final List<Person> persons = new ArrayList<>(slots.size());
+        for (Person person : personsBySlot) {
+            if (person != null) {
+                persons.add(person);
+            }
+        }
+        clear();
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package seedu.addressbook.data.person;
 
+import seedu.addressbook.data.tag.Tag;
 import seedu.addressbook.data.tag.UniqueTagList;
 
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Represents a Person in the address book.
@@ -59,6 +61,11 @@ public class Person implements ReadOnlyPerson {
         return new UniqueTagList(tags);
     }
 
+    @Override
+    public Set<Tag> getTagsView() {
+        return tags.toSet();
+    }
+
     /**
      * Replaces this person's tags with the tags in the argument tag list.
      */
@@ -2,6 +2,8 @@ package seedu.addressbook.data.person;
 
 import seedu.addressbook.data.exception.IllegalValueException;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -11,6 +13,7 @@ public class Phone {
     public static final String EXAMPLE = "123456789";
     public static final String MESSAGE_PHONE_CONSTRAINTS = "Person phone numbers should only contain numbers";
     public static final String PHONE_VALIDATION_REGEX = "\\d+";
+    private static final Pattern PHONE_VALIDATION_PATTERN = Pattern.compile(PHONE_VALIDATION_REGEX);
 
     public final String value;
     private boolean isPrivate;
@@ -33,7 +36,7 @@ public class Phone {
      * Checks if a given string is a valid person phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(PHONE_VALIDATION_REGEX);
+        return PHONE_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.addressbook.data.person;
 import seedu.addressbook.data.tag.Tag;
 import seedu.addressbook.data.tag.UniqueTagList;
 
+import java.util.Set;
+
 /**
  * A read-only immutable interface for a Person in the addressbook.
  * Implementations should guarantee: details are present and not null, field values are validated.
@@ -20,6 +22,12 @@ public interface ReadOnlyPerson {
      */
     UniqueTagList getTags();
 
+    /**
+     * Unmodifiable view of the person's tags, in order. Unlike {@link #getTags()} this does not copy,
+     * so later changes to the person's tags are visible in the returned set.
+     */
+    Set<Tag> getTagsView();
+
     /**
      * Returns true if the values inside this object is same as those of the other
      * (Note: interfaces cannot override .equals)
@@ -56,7 +64,7 @@ public interface ReadOnlyPerson {
         }
         builder.append(getAddress())
                 .append(" Tags: ");
-        for (Tag tag : getTags()) {
+        for (Tag tag : getTagsView()) {
             builder.append(tag);
         }
         return builder.toString();
@@ -78,7 +86,7 @@ public interface ReadOnlyPerson {
             builder.append(" Address: ").append(getAddress());
         }
         builder.append(" Tags: ");
-        for (Tag tag : getTags()) {
+        for (Tag tag : getTagsView()) {
             builder.append(tag);
         }
         return builder.toString();
@@ -1,11 +1,14 @@
 package seedu.addressbook.data.person;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import seedu.addressbook.common.Utils;
 import seedu.addressbook.data.exception.DuplicateDataException;
@@ -15,6 +18,9 @@ import seedu.addressbook.data.exception.DuplicateDataException;
 /**
  * A list of persons. Does not allow null elements or duplicates.
  *
+ * Persons are indexed by the identity fields used in {@link ReadOnlyPerson#isSameStateAs(ReadOnlyPerson)},
+ * so duplicate checks and removals take constant time. Iteration follows insertion order.
+ *
  * @see Person#equals(Object)
  * @see Utils#elementsAreUnique(Collection)
  */
@@ -35,7 +41,73 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public static class PersonNotFoundException extends Exception {}
 
-    private final List<Person> internalList = new ArrayList<>();
+    /**
+     * Hash key made up of the fields compared by {@link ReadOnlyPerson#isSameStateAs(ReadOnlyPerson)}.
+     * {@link Person#hashCode()} cannot be used directly as it also covers the (mutable) tags.
+     */
+    private static class PersonKey {
+        private final Name name;
+        private final Phone phone;
+        private final Email email;
+        private final Address address;
+
+        PersonKey(ReadOnlyPerson person) {
+            name = person.getName();
+            phone = person.getPhone();
+            email = person.getEmail();
+            address = person.getAddress();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof PersonKey)) {
+                return false;
+            }
+            final PersonKey otherKey = (PersonKey) other;
+            return name.equals(otherKey.name)
+                    && phone.equals(otherKey.phone)
+                    && email.equals(otherKey.email)
+                    && address.equals(otherKey.address);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = name.hashCode();
+            result = 31 * result + phone.hashCode();
+            result = 31 * result + email.hashCode();
+            result = 31 * result + address.hashCode();
+            return result;
+        }
+    }
+
+    /**
+     * Read-only, index-addressable view over the persons in insertion order.
+     * Positional access is served from an ordered snapshot that is rebuilt lazily after the list changes.
+     */
+    private class ImmutableListView extends AbstractList<ReadOnlyPerson> {
+        @Override
+        public ReadOnlyPerson get(int index) {
+            return snapshot().get(index);
+        }
+
+        @Override
+        public int size() {
+            return internalMap.size();
+        }
+
+        @Override
+        public Iterator<ReadOnlyPerson> iterator() {
+            return Collections.<ReadOnlyPerson>unmodifiableCollection(internalMap.values()).iterator();
+        }
+    }
+
+    private final Map<PersonKey, Person> internalMap = new LinkedHashMap<>();
+    private int modificationCount = 0;
+    private List<ReadOnlyPerson> orderedSnapshot = Collections.emptyList();
+    private int snapshotModificationCount = 0;
 
     /**
      * Constructs empty person list.
@@ -46,11 +118,7 @@ public class UniquePersonList implements Iterable<Person> {
      * Constructs a person list with the given persons.
      */
     public UniquePersonList(Person... persons) throws DuplicatePersonException {
-        final List<Person> initialTags = Arrays.asList(persons);
-        if (!Utils.elementsAreUnique(initialTags)) {
-            throw new DuplicatePersonException();
-        }
-        internalList.addAll(initialTags);
+        this(Arrays.asList(persons));
     }
 
     /**
@@ -59,17 +127,17 @@ public class UniquePersonList implements Iterable<Person> {
      * @throws DuplicatePersonException if the {@code persons} contains duplicate persons
      */
     public UniquePersonList(Collection<Person> persons) throws DuplicatePersonException {
-        if (!Utils.elementsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        for (Person person : persons) {
+            add(person);
         }
-        internalList.addAll(persons);
     }
 
     /**
      * Constructs a shallow copy of the list.
      */
     public UniquePersonList(UniquePersonList source) {
-        internalList.addAll(source.internalList);
+        internalMap.putAll(source.internalMap);
+        modificationCount++;
     }
 
     /**
@@ -78,7 +146,20 @@ public class UniquePersonList implements Iterable<Person> {
      * Any changes to the internal list/elements are immediately visible in the returned list.
      */
     public List<ReadOnlyPerson> immutableListView() {
-        return Collections.unmodifiableList(internalList);
+        return new ImmutableListView();
+    }
+
+    /**
+     * Unmodifiable java List of the persons in this list at the time of the call, in insertion order.
+     * Later changes to this list are not reflected in the returned list.
+     * The same list is returned by every call until this list changes, so repeated calls do not copy.
+     */
+    public List<ReadOnlyPerson> snapshot() {
+        if (snapshotModificationCount != modificationCount) {
+            orderedSnapshot = Collections.unmodifiableList(new ArrayList<ReadOnlyPerson>(internalMap.values()));
+            snapshotModificationCount = modificationCount;
+        }
+        return orderedSnapshot;
     }
 
 
@@ -86,7 +167,7 @@ public class UniquePersonList implements Iterable<Person> {
      * Checks if the list contains an equivalent person as the given argument.
      */
     public boolean contains(ReadOnlyPerson toCheck) {
-        return internalList.contains(toCheck);
+        return internalMap.containsKey(new PersonKey(toCheck));
     }
 
     /**
@@ -95,40 +176,47 @@ public class UniquePersonList implements Iterable<Person> {
      * @throws DuplicatePersonException if the person to add is a duplicate of an existing person in the list.
      */
     public void add(Person toAdd) throws DuplicatePersonException {
-        if (contains(toAdd)) {
+        final PersonKey key = new PersonKey(toAdd);
+        if (internalMap.containsKey(key)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        internalMap.put(key, toAdd);
+        modificationCount++;
     }
 
     /**
      * Removes the equivalent person from the list.
      *
+     * @return the person instance that was held by the list
      * @throws PersonNotFoundException if no such person could be found in the list.
      */
-    public void remove(ReadOnlyPerson toRemove) throws PersonNotFoundException {
-        final boolean personFoundAndDeleted = internalList.remove(toRemove);
+    public Person remove(ReadOnlyPerson toRemove) throws PersonNotFoundException {
+        final Person removed = internalMap.remove(new PersonKey(toRemove));
+        final boolean personFoundAndDeleted = removed != null;
         if (!personFoundAndDeleted) {
             throw new PersonNotFoundException();
         }
+        modificationCount++;
+        return removed;
     }
 
     /**
      * Clears all persons in list.
      */
     public void clear() {
-        internalList.clear();
+        internalMap.clear();
+        modificationCount++;
     }
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return Collections.unmodifiableCollection(internalMap.values()).iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniquePersonList // instanceof handles nulls
-                        && this.internalList.equals(((UniquePersonList) other).internalList));
+                        && this.immutableListView().equals(((UniquePersonList) other).immutableListView()));
     }
 }
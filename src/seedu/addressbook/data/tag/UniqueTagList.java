@@ -1,12 +1,10 @@
 package seedu.addressbook.data.tag;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
-import java.util.List;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import seedu.addressbook.common.Utils;
@@ -15,6 +13,7 @@ import seedu.addressbook.data.exception.DuplicateDataException;
 
 /**
  * A list of tags. Does not allow nulls or duplicates.
+ * Backed by an insertion-ordered hash set, so lookups, additions and removals take constant time.
  *
  * @see Tag#equals(Object)
  * @see Utils#elementsAreUnique(Collection)
@@ -36,7 +35,7 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public static class TagNotFoundException extends Exception {}
 
-    private final List<Tag> internalList = new ArrayList<>();
+    private final Set<Tag> internalSet = new LinkedHashSet<>();
 
     /**
      * Constructs an empty TagList.
@@ -47,49 +46,46 @@ public class UniqueTagList implements Iterable<Tag> {
      * Constructs a tag list with the given tags.
      */
     public UniqueTagList(Tag... tags) throws DuplicateTagException {
-        final List<Tag> initialTags = Arrays.asList(tags);
-        if (!Utils.elementsAreUnique(initialTags)) {
-            throw new DuplicateTagException();
-        }
-        internalList.addAll(initialTags);
+        this(Arrays.asList(tags));
     }
 
     /**
      * Constructs a tag list with the given tags.
      */
     public UniqueTagList(Collection<Tag> tags) throws DuplicateTagException {
-        if (!Utils.elementsAreUnique(tags)) {
+        internalSet.addAll(tags);
+        if (internalSet.size() != tags.size()) {
             throw new DuplicateTagException();
         }
-        internalList.addAll(tags);
     }
 
     /**
      * Constructs a tag list with the given tags.
      */
     public UniqueTagList(Set<Tag> tags) {
-        internalList.addAll(tags);
+        internalSet.addAll(tags);
     }
 
     /**
      * Constructs a shallow copy of the given tag list.
      */
     public UniqueTagList(UniqueTagList source) {
-        internalList.addAll(source.internalList);
+        internalSet.addAll(source.internalSet);
     }
 
     /**
-     * All tags in this list as a Set. This set is mutable and change-insulated against the internal list.
+     * All tags in this list as an unmodifiable Set, in list order.
+     * This is a view of the internal set, so it reflects later changes to this list.
      */
     public Set<Tag> toSet() {
-        return new HashSet<>(internalList);
+        return Collections.unmodifiableSet(internalSet);
     }
 
     /**
      * Checks if the list contains an equivalent Tag as the given argument.
      */
     public boolean contains(Tag toCheck) {
-        return internalList.contains(toCheck);
+        return internalSet.contains(toCheck);
     }
 
     /**
@@ -98,10 +94,9 @@ public class UniqueTagList implements Iterable<Tag> {
      * @throws DuplicateTagException if the Tag to add is a duplicate of an existing Tag in the list.
      */
     public void add(Tag toAdd) throws DuplicateTagException {
-        if (contains(toAdd)) {
+        if (!internalSet.add(toAdd)) {
             throw new DuplicateTagException();
         }
-        internalList.add(toAdd);
     }
 
     /**
@@ -110,22 +105,17 @@ public class UniqueTagList implements Iterable<Tag> {
      * @throws DuplicateTagException if the argument tag list contains tag(s) that already exist in this list.
      */
     public void addAll(UniqueTagList tags) throws DuplicateTagException {
-        if (!Collections.disjoint(this.internalList, tags.internalList)) {
+        if (!Collections.disjoint(this.internalSet, tags.internalSet)) {
             throw new DuplicateTagException();
         }
-        this.internalList.addAll(tags.internalList);
+        this.internalSet.addAll(tags.internalSet);
     }
 
     /**
      * Adds every tag from the argument list that does not yet exist in this list.
      */
     public void mergeFrom(UniqueTagList tags) {
-        final Set<Tag> alreadyInside = this.toSet();
-        for (Tag tag : tags) {
-            if (!alreadyInside.contains(tag)) {
-                internalList.add(tag);
-            }
-        }
+        internalSet.addAll(tags.internalSet);
     }
 
     /**
@@ -134,7 +124,7 @@ public class UniqueTagList implements Iterable<Tag> {
      * @throws TagNotFoundException if no such Tag could be found in the list.
      */
     public void remove(Tag toRemove) throws TagNotFoundException {
-        final boolean tagFoundAndDeleted = internalList.remove(toRemove);
+        final boolean tagFoundAndDeleted = internalSet.remove(toRemove);
         if (!tagFoundAndDeleted) {
             throw new TagNotFoundException();
         }
@@ -144,27 +134,32 @@ public class UniqueTagList implements Iterable<Tag> {
      * Clears all tags in list.
      */
     public void clear() {
-        internalList.clear();
+        internalSet.clear();
     }
 
     /**
      * Replaces the Tags in this list with those in the argument tag list.
      */
     public void setTags(UniqueTagList replacement) {
-        this.internalList.clear();
-        this.internalList.addAll(replacement.internalList);
+        this.internalSet.clear();
+        this.internalSet.addAll(replacement.internalSet);
     }
 
     @Override
     public Iterator<Tag> iterator() {
-        return internalList.iterator();
+        return internalSet.iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniqueTagList // instanceof handles nulls
-                        && this.internalList.equals(((UniqueTagList) other).internalList));
+                        && this.internalSet.equals(((UniqueTagList) other).internalSet));
+    }
+
+    @Override
+    public int hashCode() {
+        return internalSet.hashCode();
     }
 
 }
@@ -3,28 +3,40 @@ package seedu.addressbook.parser;
 import seedu.addressbook.commands.*;
 import seedu.addressbook.data.exception.IllegalValueException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static seedu.addressbook.common.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.addressbook.common.Messages.MESSAGE_INVALID_PAGE_NUMBER;
 import static seedu.addressbook.common.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 
 /**
  * Parses user input.
+ *
+ * Input is tokenized by hand in a single pass over each line, without regular expressions, so that parsing long
+ * scripts of commands allocates little more than the values that end up in the commands.
+ * The grammar accepted is the same as that of the regular expressions documented below.
  */
 public class Parser {
 
-    public static final Pattern PERSON_INDEX_ARGS_FORMAT = Pattern.compile("(?<targetIndex>.+)");
+    /** Prefixes of the person data fields in the add command's arguments, each followed by a '/'. */
+    public static final String PHONE_PREFIX = "p";
+    public static final String EMAIL_PREFIX = "e";
+    public static final String ADDRESS_PREFIX = "a";
+    public static final String TAG_PREFIX = "t";
 
-    public static final Pattern KEYWORDS_ARGS_FORMAT =
-            Pattern.compile("(?<keywords>\\S+(?:\\s+\\S+)*)"); // one or more keywords separated by whitespace
+    /** Put before the prefix of a contact detail to mark it as private, e.g. {@code pp/}. */
+    public static final String PRIVATE_PREFIX = "p";
 
-    public static final Pattern PERSON_DATA_ARGS_FORMAT = // '/' forward slashes are reserved for delimiter prefixes
+    /**
+     * Grammar of the add command's arguments: '/' forward slashes are reserved for delimiter prefixes.
+     * Not used for parsing, which is done by hand; kept as the reference the hand-written tokenizer must agree with.
+     */
+    public static final Pattern PERSON_DATA_ARGS_FORMAT =
             Pattern.compile("(?<name>[^/]+)"
                     + " (?<isPhonePrivate>p?)p/(?<phone>[^/]+)"
                     + " (?<isEmailPrivate>p?)e/(?<email>[^/]+)"
@@ -41,11 +53,6 @@ public class Parser {
         }
     }
 
-    /**
-     * Used for initial separation of command word and args.
-     */
-    public static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-
     public Parser() {}
 
     /**
@@ -55,13 +62,18 @@ public class Parser {
      * @return the command based on the user input
      */
     public Command parseCommand(String userInput) {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length() && !isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        // the command must fit on one line
+        if (commandWordEnd == 0 || containsLineTerminator(trimmedInput, commandWordEnd)) {
             return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
         switch (commandWord) {
 
@@ -77,8 +89,29 @@ public class Parser {
         case FindCommand.COMMAND_WORD:
             return prepareFind(arguments);
 
+        case FuzzyFindCommand.COMMAND_WORD:
+            return prepareFuzzyFind(arguments);
+
+        case FindAddressCommand.COMMAND_WORD:
+            return prepareFindAddress(arguments);
+
+        case FindPhoneCommand.COMMAND_WORD:
+            return prepareFindPhone(arguments);
+
+        case FindEmailCommand.COMMAND_WORD:
+            return prepareFindEmail(arguments);
+
+        case FindTagCommand.COMMAND_WORD:
+            return prepareFindTag(arguments);
+
+        case ImportCommand.COMMAND_WORD:
+            return prepareImport(arguments);
+
         case ListCommand.COMMAND_WORD:
-            return new ListCommand();
+            return prepareList(arguments);
+
+        case NextCommand.COMMAND_WORD:
+            return new NextCommand();
 
         case ViewCommand.COMMAND_WORD:
             return prepareView(arguments);
@@ -102,53 +135,115 @@ public class Parser {
      * @return the prepared command
      */
     private Command prepareAdd(String args) {
-        final Matcher matcher = PERSON_DATA_ARGS_FORMAT.matcher(args.trim());
-        // Validate arg string format
-        if (!matcher.matches()) {
+        try {
+            return parsePersonData(args.trim());
+        } catch (ParseException pe) {
             return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddCommand.MESSAGE_USAGE));
+        } catch (IllegalValueException ive) {
+            return new IncorrectCommand(ive.getMessage());
         }
-        try {
-            return new AddCommand(
-                    matcher.group("name"),
-
-                    matcher.group("phone"),
-                    isPrivatePrefixPresent(matcher.group("isPhonePrivate")),
+    }
 
-                    matcher.group("email"),
-                    isPrivatePrefixPresent(matcher.group("isEmailPrivate")),
+    /**
+     * Tokenizes the person data in the add command's arguments, as described by {@link #PERSON_DATA_ARGS_FORMAT}.
+     * As no value may contain a '/', each '/' ends a field prefix, and the value before the prefix runs back to
+     * the previous '/'. Duplicate tag strings are merged.
+     *
+     * @param personData trimmed add command args string
+     * @throws ParseException if the args string does not have the expected fields
+     * @throws IllegalValueException if any field value is invalid
+     */
+    private static AddCommand parsePersonData(String personData) throws ParseException, IllegalValueException {
+        final int phoneDelimiter = personData.indexOf('/');
+        final int emailDelimiter = personData.indexOf('/', phoneDelimiter + 1);
+        final int addressDelimiter = personData.indexOf('/', emailDelimiter + 1);
+        if (phoneDelimiter < 0 || emailDelimiter < 0 || addressDelimiter < 0) {
+            throw new ParseException("Could not find all person data fields");
+        }
 
-                    matcher.group("address"),
-                    isPrivatePrefixPresent(matcher.group("isAddressPrivate")),
+        int nameEnd = findValueEnd(personData, 0, phoneDelimiter, PRIVATE_PREFIX + PHONE_PREFIX);
+        final boolean isPhonePrivate = nameEnd >= 0;
+        if (!isPhonePrivate) {
+            nameEnd = findValueEnd(personData, 0, phoneDelimiter, PHONE_PREFIX);
+        }
+        int phoneEnd = findValueEnd(personData, phoneDelimiter + 1, emailDelimiter, PRIVATE_PREFIX + EMAIL_PREFIX);
+        final boolean isEmailPrivate = phoneEnd >= 0;
+        if (!isEmailPrivate) {
+            phoneEnd = findValueEnd(personData, phoneDelimiter + 1, emailDelimiter, EMAIL_PREFIX);
+        }
+        int emailEnd = findValueEnd(personData, emailDelimiter + 1, addressDelimiter,
+                PRIVATE_PREFIX + ADDRESS_PREFIX);
+        final boolean isAddressPrivate = emailEnd >= 0;
+        if (!isAddressPrivate) {
+            emailEnd = findValueEnd(personData, emailDelimiter + 1, addressDelimiter, ADDRESS_PREFIX);
+        }
+        if (nameEnd < 0 || phoneEnd < 0 || emailEnd < 0) {
+            throw new ParseException("Could not find all person data fields");
+        }
 
-                    getTagsFromArgs(matcher.group("tagArguments"))
-            );
-        } catch (IllegalValueException ive) {
-            return new IncorrectCommand(ive.getMessage());
+        // the address is followed by any number of tags, each ended by the next tag prefix or the end of the args
+        final Set<String> tags = new HashSet<>();
+        String address = null;
+        int valueStart = addressDelimiter + 1;
+        while (valueStart >= 0) {
+            final int nextDelimiter = personData.indexOf('/', valueStart);
+            final int valueEnd = nextDelimiter < 0
+                    ? personData.length()
+                    : findValueEnd(personData, valueStart, nextDelimiter, TAG_PREFIX);
+            if (valueEnd <= valueStart) {
+                throw new ParseException("Empty or unprefixed person data field");
+            }
+            final String value = personData.substring(valueStart, valueEnd);
+            if (address == null) {
+                address = value;
+            } else {
+                tags.add(value);
+            }
+            valueStart = nextDelimiter < 0 ? -1 : nextDelimiter + 1;
         }
+
+        return new AddCommand(
+                personData.substring(0, nameEnd),
+                personData.substring(phoneDelimiter + 1, phoneEnd), isPhonePrivate,
+                personData.substring(emailDelimiter + 1, emailEnd), isEmailPrivate,
+                address, isAddressPrivate,
+                tags
+        );
     }
 
     /**
-     * Checks whether the private prefix of a contact detail in the add command's arguments string is present.
+     * Finds the end of a non-empty field value that is followed by a space and the given prefix,
+     * the prefix itself ending just before the '/' delimiter.
+     *
+     * @param valueStart index of the first character of the value
+     * @param delimiterIndex index of the '/' after the prefix
+     * @return index just past the value, or -1 if the value is empty or not followed by " " and the prefix
      */
-    private static boolean isPrivatePrefixPresent(String matchedPrefix) {
-        return matchedPrefix.equals("p");
+    private static int findValueEnd(String args, int valueStart, int delimiterIndex, String prefix) {
+        final int prefixStart = delimiterIndex - prefix.length();
+        final int valueEnd = prefixStart - 1;
+        if (valueEnd <= valueStart
+                || args.charAt(valueEnd) != ' '
+                || !args.regionMatches(prefixStart, prefix, 0, prefix.length())) {
+            return -1;
+        }
+        return valueEnd;
     }
 
     /**
-     * Extracts the new person's tags from the add command's tag arguments string.
-     * Merges duplicate tag strings.
+     * Parses arguments in the context of the import command.
+     *
+     * @param args full command args string
+     * @return the prepared command
      */
-    private static Set<String> getTagsFromArgs(String tagArguments) throws IllegalValueException {
-        // no tags
-        if (tagArguments.isEmpty()) {
-            return Collections.emptySet();
+    private Command prepareImport(String args) {
+        final String filePath = args.trim();
+        if (filePath.isEmpty()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
         }
-        // replace first delimiter prefix, then split
-        final Collection<String> tagStrings = Arrays.asList(tagArguments.replaceFirst(" t/", "").split(" t/"));
-        return new HashSet<>(tagStrings);
+        return new ImportCommand(filePath);
     }
 
-
     /**
      * Parses arguments in the context of the delete person command.
      *
@@ -166,6 +261,26 @@ public class Parser {
         }
     }
 
+    /**
+     * Parses arguments in the context of the list command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareList(String args) {
+        if (args.trim().isEmpty()) {
+            return new ListCommand();
+        }
+        try {
+            final int pageNumber = parseArgsAsDisplayedIndex(args);
+            return new ListCommand(pageNumber);
+        } catch (ParseException pe) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+        } catch (NumberFormatException nfe) {
+            return new IncorrectCommand(MESSAGE_INVALID_PAGE_NUMBER);
+        }
+    }
+
     /**
      * Parses arguments in the context of the view command.
      *
@@ -213,11 +328,55 @@ public class Parser {
      * @throws NumberFormatException the args string region is not a valid number
      */
     private int parseArgsAsDisplayedIndex(String args) throws ParseException, NumberFormatException {
-        final Matcher matcher = PERSON_INDEX_ARGS_FORMAT.matcher(args.trim());
-        if (!matcher.matches()) {
+        final String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
             throw new ParseException("Could not find index number to parse");
         }
-        return Integer.parseInt(matcher.group("targetIndex"));
+        return Integer.parseInt(trimmedArgs);
+    }
+
+    /**
+     * Splits the given arguments string into its whitespace-delimited words.
+     *
+     * @return the words in order, duplicates included; empty if the args string is blank
+     */
+    private static List<String> splitIntoWords(String args) {
+        final List<String> words = new ArrayList<>();
+        int wordStart = -1;
+        for (int i = 0; i < args.length(); i++) {
+            final boolean isWordCharacter = !isWhitespace(args.charAt(i));
+            if (isWordCharacter && wordStart < 0) {
+                wordStart = i;
+            } else if (!isWordCharacter && wordStart >= 0) {
+                words.add(args.substring(wordStart, i));
+                wordStart = -1;
+            }
+        }
+        if (wordStart >= 0) {
+            words.add(args.substring(wordStart));
+        }
+        return words;
+    }
+
+    /**
+     * Returns true if the character is whitespace that separates a command word and its arguments.
+     * These are the characters matched by {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if the string contains a line terminator from the given index on.
+     */
+    private static boolean containsLineTerminator(String string, int fromIndex) {
+        for (int i = fromIndex; i < string.length(); i++) {
+            final char c = string.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
     }
 
 
@@ -228,16 +387,121 @@ public class Parser {
      * @return the prepared command
      */
     private Command prepareFind(String args) {
-        final Matcher matcher = KEYWORDS_ARGS_FORMAT.matcher(args.trim());
-        if (!matcher.matches()) {
+        final List<String> words = splitIntoWords(args);
+        if (words.isEmpty()) {
             return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     FindCommand.MESSAGE_USAGE));
         }
 
         // keywords delimited by whitespace
-        final String[] keywords = matcher.group("keywords").split("\\s+");
-        final Set<String> keywordSet = new HashSet<>(Arrays.asList(keywords));
-        return new FindCommand(keywordSet);
+        return new FindCommand(new HashSet<>(words));
+    }
+
+    /**
+     * Parses arguments in the context of the fuzzy find person command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareFuzzyFind(String args) {
+        final List<String> words = splitIntoWords(args);
+        if (words.isEmpty()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FuzzyFindCommand.MESSAGE_USAGE));
+        }
+
+        // keywords delimited by whitespace
+        return new FuzzyFindCommand(new HashSet<>(words));
+    }
+
+    /**
+     * Parses arguments in the context of the find persons by address command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareFindAddress(String args) {
+        final List<String> words = splitIntoWords(args);
+        if (words.isEmpty()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindAddressCommand.MESSAGE_USAGE));
+        }
+
+        // keywords delimited by whitespace
+        return new FindAddressCommand(new HashSet<>(words));
+    }
+
+    /**
+     * Parses arguments in the context of the find persons by phone command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareFindPhone(String args) {
+        final List<String> words = splitIntoWords(args);
+        if (words.isEmpty()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindPhoneCommand.MESSAGE_USAGE));
+        }
+
+        // phone numbers delimited by whitespace
+        try {
+            return new FindPhoneCommand(new HashSet<>(words));
+        } catch (IllegalValueException ive) {
+            return new IncorrectCommand(ive.getMessage());
+        }
+    }
+
+    /**
+     * Parses arguments in the context of the find persons by email command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareFindEmail(String args) {
+        final List<String> words = splitIntoWords(args);
+        if (words.isEmpty()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindEmailCommand.MESSAGE_USAGE));
+        }
+
+        // emails delimited by whitespace
+        try {
+            return new FindEmailCommand(new HashSet<>(words));
+        } catch (IllegalValueException ive) {
+            return new IncorrectCommand(ive.getMessage());
+        }
+    }
+
+    /**
+     * Parses arguments in the context of the find persons by tag command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareFindTag(String args) {
+        final List<String> words = splitIntoWords(args);
+        if (words.isEmpty()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindTagCommand.MESSAGE_USAGE));
+        }
+
+        // tag groups delimited by whitespace, tags within a group delimited by the conjunction
+        final List<Set<String>> tagGroups = new ArrayList<>();
+        for (String group : words) {
+            final String[] tagNames = group.split(Pattern.quote(FindTagCommand.TAG_CONJUNCTION), -1);
+            if (Arrays.asList(tagNames).contains("")) {
+                // a conjunction missing an operand, e.g. "+friends" or "friends+"
+                return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        FindTagCommand.MESSAGE_USAGE));
+            }
+            tagGroups.add(new HashSet<>(Arrays.asList(tagNames)));
+        }
+        try {
+            return new FindTagCommand(tagGroups);
+        } catch (IllegalValueException ive) {
+            return new IncorrectCommand(ive.getMessage());
+        }
     }
 
 
@@ -0,0 +1,194 @@
+package seedu.addressbook.storage;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.AddressBookChangeListener;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+import java.util.List;
+
+/**
+ * Saves an address book to its storage file on a background thread, so that changes do not block the caller.
+ *
+ * Bursts of changes are coalesced into a single save (group commit): a save is started once
+ * {@code maxLatencyMillis} have passed since the first unsaved change, or as soon as {@code maxBatchSize}
+ * unsaved changes have accumulated, whichever comes first.
+ *
+ * Code that reads or changes the address book must hold its monitor ({@code synchronized (addressBook)}).
+ * Saves hold it only while capturing the address book's contents (see {@link StorageFile#save(AddressBook)}),
+ * so changes are not held up while the file is written.
+ */
+public class AsyncStorageWriter implements AddressBookChangeListener {
+
+    public static final long DEFAULT_MAX_LATENCY_MILLIS = 200;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+
+    /** Use as {@code maxLatencyMillis} to save only when {@code maxBatchSize} changes have accumulated. */
+    public static final long NO_MAX_LATENCY = Long.MAX_VALUE;
+
+    private final StorageFile storage;
+    private final AddressBook addressBook;
+    private final long maxLatencyMillis;
+    private final int maxBatchSize;
+    private final Thread saverThread;
+
+    /* The fields below are guarded by this object's monitor. */
+    private int unsavedChangeCount = 0;
+    private long firstUnsavedChangeMillis;
+    private boolean isClosed = false;
+    private StorageOperationException lastFailure;
+
+    public AsyncStorageWriter(StorageFile storage, AddressBook addressBook) {
+        this(storage, addressBook, DEFAULT_MAX_LATENCY_MILLIS, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * @param maxLatencyMillis longest time a change may remain unsaved before a save is started
+     * @param maxBatchSize number of unsaved changes that triggers a save immediately
+     */
+    public AsyncStorageWriter(StorageFile storage, AddressBook addressBook, long maxLatencyMillis, int maxBatchSize) {
+        this.storage = storage;
+        this.addressBook = addressBook;
+        this.maxLatencyMillis = maxLatencyMillis;
+        this.maxBatchSize = maxBatchSize;
+        saverThread = new Thread(this::runSaveLoop, "storage-writer");
+        saverThread.setDaemon(true);
+    }
+
+    /**
+     * Starts saving changes made to the address book in the background.
+     */
+    public void start() {
+        addressBook.addChangeListener(this);
+        saverThread.start();
+    }
+
+    /**
+     * Saves all changes made so far, blocking until they are on disk.
+     *
+     * @throws StorageOperationException if the save failed.
+     */
+    public void flush() throws StorageOperationException {
+        synchronized (this) {
+            unsavedChangeCount = 0;
+            lastFailure = null;
+        }
+        storage.save(addressBook);
+    }
+
+    /**
+     * Saves all changes made so far and stops the background thread.
+     *
+     * @throws StorageOperationException if the final save failed.
+     */
+    public void close() throws StorageOperationException {
+        synchronized (this) {
+            isClosed = true;
+            notifyAll();
+        }
+        synchronized (addressBook) {
+            addressBook.removeChangeListener(this);
+        }
+        flush();
+    }
+
+    /**
+     * Returns the failure of the most recent background save, or null if it succeeded.
+     * A failed save is retried with the next change or {@link #flush()}.
+     */
+    public synchronized StorageOperationException getLastFailure() {
+        return lastFailure;
+    }
+
+    private synchronized void changeMade() {
+        if (unsavedChangeCount == 0) {
+            firstUnsavedChangeMillis = System.currentTimeMillis();
+        }
+        unsavedChangeCount++;
+        if (unsavedChangeCount == 1 || unsavedChangeCount >= maxBatchSize) {
+            notifyAll();
+        }
+    }
+
+    private void runSaveLoop() {
+        try {
+            while (awaitNextBatch()) {
+                saveInBackground();
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Saves the address book and records the outcome for {@link #getLastFailure()}.
+     * Unexpected runtime errors are recorded as failures too, so they do not stop the background thread.
+     */
+    private void saveInBackground() {
+        StorageOperationException failure = null;
+        try {
+            storage.save(addressBook);
+        } catch (StorageOperationException soe) {
+            failure = soe;
+        } catch (RuntimeException re) {
+            failure = new StorageOperationException("Unexpected error saving to file: " + storage.getPath()
+                    + " (" + re + ")");
+        }
+        synchronized (this) {
+            lastFailure = failure;
+        }
+    }
+
+    /**
+     * Waits until a batch of changes is due for saving and claims it.
+     *
+     * @return false if this writer has been closed
+     */
+    private synchronized boolean awaitNextBatch() throws InterruptedException {
+        while (!isClosed) {
+            if (unsavedChangeCount == 0) {
+                wait();
+                continue;
+            }
+            // elapsed time is compared rather than a deadline computed, which would overflow for NO_MAX_LATENCY
+            final long remainingMillis = maxLatencyMillis - (System.currentTimeMillis() - firstUnsavedChangeMillis);
+            if (remainingMillis <= 0 || unsavedChangeCount >= maxBatchSize) {
+                unsavedChangeCount = 0;
+                return true;
+            }
+            wait(remainingMillis);
+        }
+        return false;
+    }
+
+    @Override
+    public void personAdded(ReadOnlyPerson person) {
+        changeMade();
+    }
+
+    @Override
+    public void personsAdded(List<? extends ReadOnlyPerson> persons) {
+        changeMade(); // saved together, as a single change
+    }
+
+    @Override
+    public void personRemoved(ReadOnlyPerson person) {
+        changeMade();
+    }
+
+    @Override
+    public void tagAdded(Tag tag) {
+        changeMade();
+    }
+
+    @Override
+    public void tagRemoved(Tag tag) {
+        changeMade();
+    }
+
+    @Override
+    public void cleared() {
+        changeMade();
+    }
+}
@@ -0,0 +1,218 @@
+package seedu.addressbook.storage;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.UniqueTagList;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact binary storage format for an address book.
+ *
+ * Layout (all integers big-endian, strings as an int byte length followed by UTF-8 bytes):
+ * <pre>
+ *   int     magic number {@link #MAGIC}
+ *   short   format version {@link #VERSION}
+ *   int     number of tags, followed by each tag name (the tag dictionary)
+ *   int     number of persons, followed by each person:
+ *             byte    privacy flags ({@link #PHONE_PRIVATE_FLAG} | {@link #EMAIL_PRIVATE_FLAG}
+ *                     | {@link #ADDRESS_PRIVATE_FLAG})
+ *             string  name, phone, email, address
+ *             int     number of tags, followed by each tag's index in the tag dictionary
+ * </pre>
+ */
+public class BinaryStorageFormat {
+
+    /** File extension of storage files in this format. */
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final int MAGIC = 0x4144424B; // "ADBK"
+    public static final short VERSION = 1;
+
+    public static final int PHONE_PRIVATE_FLAG = 1;
+    public static final int EMAIL_PRIVATE_FLAG = 1 << 1;
+    public static final int ADDRESS_PRIVATE_FLAG = 1 << 2;
+
+    private BinaryStorageFormat() {}
+
+    /**
+     * Writes the address book to the given stream. The stream is not closed.
+     */
+    public static void write(AddressBook addressBook, OutputStream destination) throws IOException {
+        write(addressBook.getAllPersonsSnapshot(), addressBook.getAllTagsView(), destination);
+    }
+
+    /**
+     * Writes an address book with the given persons and tags to the given stream. The stream is not closed.
+     */
+    public static void write(Collection<? extends ReadOnlyPerson> persons, Collection<Tag> tags,
+                             OutputStream destination) throws IOException {
+        final DataOutputStream out = new DataOutputStream(destination);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+
+        final Map<Tag, Integer> tagDictionary = new LinkedHashMap<>();
+        for (Tag tag : tags) {
+            tagDictionary.put(tag, tagDictionary.size());
+        }
+        // every person tag should already be in the master list, but do not rely on it when writing
+        for (ReadOnlyPerson person : persons) {
+            for (Tag tag : person.getTagsView()) {
+                tagDictionary.putIfAbsent(tag, tagDictionary.size());
+            }
+        }
+
+        out.writeInt(tagDictionary.size());
+        for (Tag tag : tagDictionary.keySet()) {
+            writeString(out, tag.tagName);
+        }
+
+        out.writeInt(persons.size());
+        for (ReadOnlyPerson person : persons) {
+            out.writeByte(getPrivacyFlags(person));
+            writeString(out, person.getName().fullName);
+            writeString(out, person.getPhone().value);
+            writeString(out, person.getEmail().value);
+            writeString(out, person.getAddress().value);
+            final Set<Tag> personTags = person.getTagsView();
+            out.writeInt(personTags.size());
+            for (Tag tag : personTags) {
+                out.writeInt(tagDictionary.get(tag));
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads an address book from the given stream, decoding each person as it is read, so only the address book
+     * itself is held in memory rather than the whole file. The stream is not closed, and should be buffered.
+     *
+     * @throws IOException if the stream could not be read.
+     * @throws IllegalValueException if any value violates the data constraints, including duplicate persons.
+     * @throws StorageOperationException if the data is not in this format, is of an unsupported version,
+     *                                   or is truncated.
+     */
+    public static AddressBook read(InputStream source)
+            throws IOException, IllegalValueException, StorageOperationException {
+        try {
+            return new Reader(new DataInputStream(source)).readAddressBook();
+        } catch (EOFException eofe) {
+            throw new StorageOperationException("Error parsing file data format");
+        }
+    }
+
+    /**
+     * Decodes one address book from a stream, reusing a scratch array for string bytes.
+     */
+    private static class Reader {
+
+        /** Largest initial capacity reserved for a count read from the stream, which may be corrupt. */
+        private static final int MAX_INITIAL_CAPACITY = 1024;
+
+        private final DataInputStream in;
+        private byte[] stringBytes = new byte[64];
+
+        Reader(DataInputStream in) {
+            this.in = in;
+        }
+
+        AddressBook readAddressBook() throws IOException, IllegalValueException, StorageOperationException {
+            if (in.readInt() != MAGIC) {
+                throw new StorageOperationException("Error parsing file data format");
+            }
+            final short version = in.readShort();
+            if (version != VERSION) {
+                throw new StorageOperationException("Unsupported storage format version: " + version);
+            }
+
+            final AddressBook loaded = new AddressBook();
+            final int tagCount = readCount();
+            final List<Tag> tagDictionary = new ArrayList<>(Math.min(tagCount, MAX_INITIAL_CAPACITY));
+            for (int i = 0; i < tagCount; i++) {
+                final Tag tag = new Tag(readString());
+                tagDictionary.add(tag);
+                loaded.addTag(tag);
+            }
+
+            final int personCount = readCount();
+            for (int i = 0; i < personCount; i++) {
+                final int flags = in.readUnsignedByte();
+                final Name name = new Name(readString());
+                final Phone phone = new Phone(readString(), (flags & PHONE_PRIVATE_FLAG) != 0);
+                final Email email = new Email(readString(), (flags & EMAIL_PRIVATE_FLAG) != 0);
+                final Address address = new Address(readString(), (flags & ADDRESS_PRIVATE_FLAG) != 0);
+                final int personTagCount = readCount();
+                final List<Tag> tags = new ArrayList<>(Math.min(personTagCount, tagDictionary.size()));
+                for (int j = 0; j < personTagCount; j++) {
+                    final int tagIndex = in.readInt();
+                    if (tagIndex < 0 || tagIndex >= tagDictionary.size()) {
+                        throw new StorageOperationException("Error parsing file data format");
+                    }
+                    tags.add(tagDictionary.get(tagIndex));
+                }
+                loaded.addPerson(new Person(name, phone, email, address, new UniqueTagList(tags)));
+            }
+            return loaded;
+        }
+
+        private String readString() throws IOException, StorageOperationException {
+            final int length = readCount();
+            if (length > stringBytes.length) {
+                stringBytes = new byte[Math.max(length, stringBytes.length * 2)];
+            }
+            in.readFully(stringBytes, 0, length);
+            return new String(stringBytes, 0, length, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Reads a length or count, which must not be negative.
+         */
+        private int readCount() throws IOException, StorageOperationException {
+            final int count = in.readInt();
+            if (count < 0) {
+                throw new StorageOperationException("Error parsing file data format");
+            }
+            return count;
+        }
+    }
+
+    private static int getPrivacyFlags(ReadOnlyPerson person) {
+        int flags = 0;
+        if (person.getPhone().isPrivate()) {
+            flags |= PHONE_PRIVATE_FLAG;
+        }
+        if (person.getEmail().isPrivate()) {
+            flags |= EMAIL_PRIVATE_FLAG;
+        }
+        if (person.getAddress().isPrivate()) {
+            flags |= ADDRESS_PRIVATE_FLAG;
+        }
+        return flags;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
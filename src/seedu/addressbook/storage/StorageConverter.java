@@ -0,0 +1,50 @@
+package seedu.addressbook.storage;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.storage.StorageFile.InvalidStorageFilePathException;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+import java.nio.file.Files;
+
+/**
+ * Converts an address book storage file between the XML and binary formats.
+ * The format of each file is determined by its extension, as in {@link StorageFile}.
+ */
+public class StorageConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: java seedu.addressbook.storage.StorageConverter "
+            + "SOURCE_FILE_PATH TARGET_FILE_PATH";
+
+    private StorageConverter() {}
+
+    public static void main(String... args) {
+        if (args.length != 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        try {
+            convert(args[0], args[1]);
+        } catch (InvalidStorageFilePathException | StorageOperationException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Loads the address book in the source file and saves it to the target file, overwriting it.
+     *
+     * @throws InvalidStorageFilePathException if either file path is not acceptable as a storage file.
+     * @throws StorageOperationException if the source file does not exist, or there were errors reading the source
+     *                                   or writing the target.
+     */
+    public static void convert(String sourceFilePath, String targetFilePath)
+            throws InvalidStorageFilePathException, StorageOperationException {
+        final StorageFile source = new StorageFile(sourceFilePath);
+        // loading would otherwise create an empty source, and the empty address book would overwrite the target
+        if (!Files.exists(source.path)) {
+            throw new StorageOperationException("Source file does not exist: " + sourceFilePath);
+        }
+        final AddressBook addressBook = source.load();
+        new StorageFile(targetFilePath).save(addressBook);
+    }
+}
@@ -2,32 +2,49 @@ package seedu.addressbook.storage;
 
 import seedu.addressbook.data.AddressBook;
 import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
 import seedu.addressbook.storage.jaxb.AdaptedAddressBook;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamException;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Represents the file used to store address book data.
+ * Files ending in '.xml' are stored as XML; files ending in {@link BinaryStorageFormat#FILE_EXTENSION}
+ * use the more compact {@link BinaryStorageFormat}.
  */
 public class StorageFile {
 
     /** Default file path used if the user doesn't provide the file name. */
     public static final String DEFAULT_STORAGE_FILEPATH = "addressbook.xml";
 
+    /** Number of journal records after which the next save rewrites the full snapshot instead. */
+    public static final int JOURNAL_COMPACTION_THRESHOLD = 1000;
+
     /* Note: Note the use of nested classes below.
      * More info https://docs.oracle.com/javase/tutorial/java/javaOO/nested.html
      */
@@ -51,9 +68,23 @@ public class StorageFile {
         }
     }
 
+    /** Used for XML storage files only; null for binary ones. */
     private final JAXBContext jaxbContext;
 
     public final Path path;
+    private final boolean isBinary;
+
+    /** Write-ahead log of changes since the last snapshot, or null if journaling is disabled. */
+    private final StorageJournal journal;
+
+    /* The fields below are guarded by this object's monitor. */
+
+    /** The address book last loaded from or saved to this file, and its modification count at that time. */
+    private AddressBook lastSavedAddressBook;
+    private long lastSavedModificationCount;
+
+    /** Whether the next save must write a full snapshot, because the last attempt to write one failed. */
+    private boolean isSnapshotRequired = false;
 
     /**
      * @throws InvalidStorageFilePathException if the default path is invalid
@@ -66,32 +97,157 @@ public class StorageFile {
      * @throws InvalidStorageFilePathException if the given file path is invalid
      */
     public StorageFile(String filePath) throws InvalidStorageFilePathException {
-        try {
-            jaxbContext = JAXBContext.newInstance(AdaptedAddressBook.class);
-        } catch (JAXBException jaxbe) {
-            throw new RuntimeException("jaxb initialisation error");
-        }
+        this(filePath, false);
+    }
 
+    /**
+     * @param isJournaled if true, changes are appended to a journal file next to the storage file and the full
+     *                    snapshot is only rewritten every {@link #JOURNAL_COMPACTION_THRESHOLD} changes
+     * @throws InvalidStorageFilePathException if the given file path is invalid
+     */
+    public StorageFile(String filePath, boolean isJournaled) throws InvalidStorageFilePathException {
         path = Paths.get(filePath);
         if (!isValidPath(path)) {
-            throw new InvalidStorageFilePathException("Storage file should end with '.xml'");
+            throw new InvalidStorageFilePathException(
+                    "Storage file should end with '.xml' or '" + BinaryStorageFormat.FILE_EXTENSION + "'");
+        }
+        isBinary = isBinaryPath(path);
+
+        try {
+            jaxbContext = isBinary ? null : JAXBContext.newInstance(AdaptedAddressBook.class);
+        } catch (JAXBException jaxbe) {
+            throw new RuntimeException("jaxb initialisation error");
         }
+        journal = isJournaled ? new StorageJournal(path) : null;
     }
 
     /**
      * Returns true if the given path is acceptable as a storage file.
-     * The file path is considered acceptable if it ends with '.xml'
+     * The file path is considered acceptable if it ends with '.xml' or {@link BinaryStorageFormat#FILE_EXTENSION}
      */
     private static boolean isValidPath(Path filePath) {
-        return filePath.toString().endsWith(".xml");
+        return filePath.toString().endsWith(".xml") || isBinaryPath(filePath);
+    }
+
+    private static boolean isBinaryPath(Path filePath) {
+        return filePath.toString().endsWith(BinaryStorageFormat.FILE_EXTENSION);
     }
 
     /**
      * Saves all data to this storage file.
+     * If journaling is enabled and the journal is recording changes to {@code addressBook}, only the
+     * changes since the last save are appended, until the journal is due for compaction.
+     * Nothing is written if {@code addressBook} has not changed since it was last loaded from or saved to this file.
+     *
+     * The address book's monitor is held only while its contents (or journaled changes) are captured; they are
+     * converted and written after it is released, so changes to the address book need not wait for the file.
+     * Saves to this file take turns, each capturing and writing before the next, so callers must not hold the
+     * address book's monitor while saving.
      *
      * @throws StorageOperationException if there were errors converting and/or storing data to file.
      */
-    public void save(AddressBook addressBook) throws StorageOperationException {
+    public synchronized void save(AddressBook addressBook) throws StorageOperationException {
+        final long modificationCount;
+        final String journalRecords;
+        final List<ReadOnlyPerson> persons;
+        final List<Tag> tags;
+        synchronized (addressBook) {
+            if (isUnchangedSinceLastSave(addressBook)) {
+                return;
+            }
+            modificationCount = addressBook.getModificationCount();
+            if (canSaveThroughJournal(addressBook)) {
+                journalRecords = journal.takePendingRecords();
+                persons = null;
+                tags = null;
+            } else {
+                journalRecords = null;
+                persons = addressBook.getAllPersonsSnapshot();
+                tags = new ArrayList<>(addressBook.getAllTagsView());
+                if (journal != null) {
+                    // changes from here on are recorded against the snapshot being saved
+                    journal.discardPendingRecords();
+                    journal.attachTo(addressBook);
+                }
+            }
+        }
+
+        if (journalRecords != null) {
+            saveJournalRecords(journalRecords);
+        } else {
+            saveSnapshotReplacingJournal(persons, tags);
+        }
+        lastSavedAddressBook = addressBook;
+        lastSavedModificationCount = modificationCount;
+    }
+
+    /**
+     * Returns true if the given address book is the one last loaded or saved, with no changes made since.
+     */
+    private boolean isUnchangedSinceLastSave(AddressBook addressBook) {
+        return addressBook.getModificationCount() == lastSavedModificationCount
+                && addressBook == lastSavedAddressBook;
+    }
+
+    private boolean canSaveThroughJournal(AddressBook addressBook) {
+        return journal != null && !isSnapshotRequired && journal.isAttachedTo(addressBook)
+                && journal.getRecordCount() < JOURNAL_COMPACTION_THRESHOLD;
+    }
+
+    /**
+     * Appends the given journal records, keeping them pending for the next save if that fails.
+     *
+     * @throws StorageOperationException if there were errors writing to the journal file.
+     */
+    private void saveJournalRecords(String journalRecords) throws StorageOperationException {
+        try {
+            journal.write(journalRecords);
+        } catch (StorageOperationException soe) {
+            journal.restorePendingRecords(journalRecords);
+            throw soe;
+        }
+    }
+
+    /**
+     * Writes a full snapshot, after which the journal's records are no longer needed.
+     * If writing fails, the next save writes a full snapshot too, as the journal no longer holds all changes.
+     *
+     * @throws StorageOperationException if there were errors converting and/or storing data to file.
+     */
+    private void saveSnapshotReplacingJournal(List<ReadOnlyPerson> persons, Collection<Tag> tags)
+            throws StorageOperationException {
+        try {
+            saveSnapshot(persons, tags);
+        } catch (StorageOperationException soe) {
+            isSnapshotRequired = true;
+            throw soe;
+        }
+        isSnapshotRequired = false;
+        if (journal != null) {
+            journal.deleteFile();
+        }
+    }
+
+    /**
+     * Writes the full address book to this storage file.
+     *
+     * @throws StorageOperationException if there were errors converting and/or storing data to file.
+     */
+    private void saveSnapshot(AddressBook addressBook) throws StorageOperationException {
+        saveSnapshot(addressBook.getAllPersonsSnapshot(), addressBook.getAllTagsView());
+    }
+
+    /**
+     * Writes the given persons and tags to this storage file, replacing its contents.
+     *
+     * @throws StorageOperationException if there were errors converting and/or storing data to file.
+     */
+    private void saveSnapshot(List<ReadOnlyPerson> persons, Collection<Tag> tags) throws StorageOperationException {
+
+        if (isBinary) {
+            saveBinarySnapshot(persons, tags);
+            return;
+        }
 
         /* Note: Note the 'try with resource' statement below.
          * More info: https://docs.oracle.com/javase/tutorial/essential/exceptions/tryResourceClose.html
@@ -99,7 +255,7 @@ public class StorageFile {
         try (final Writer fileWriter =
                      new BufferedWriter(new FileWriter(path.toFile()))) {
 
-            final AdaptedAddressBook toSave = new AdaptedAddressBook(addressBook);
+            final AdaptedAddressBook toSave = new AdaptedAddressBook(persons, tags);
             final Marshaller marshaller = jaxbContext.createMarshaller();
             marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
             marshaller.marshal(toSave, fileWriter);
@@ -111,22 +267,47 @@ public class StorageFile {
         }
     }
 
+    private void saveBinarySnapshot(List<ReadOnlyPerson> persons, Collection<Tag> tags)
+            throws StorageOperationException {
+        try (final OutputStream fileStream = new BufferedOutputStream(new FileOutputStream(path.toFile()))) {
+            BinaryStorageFormat.write(persons, tags, fileStream);
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error writing to file: " + path);
+        }
+    }
+
     /**
      * Loads data from this storage file.
+     * If journaling is enabled, the journaled changes are replayed on top of the loaded snapshot and
+     * further changes to the returned address book are recorded in the journal.
      *
      * @throws StorageOperationException if there were errors reading and/or converting data from file.
      */
-    public AddressBook load() throws StorageOperationException {
+    public synchronized AddressBook load() throws StorageOperationException {
+        final AddressBook loaded = loadSnapshot();
+        if (journal != null) {
+            journal.replayInto(loaded);
+            journal.attachTo(loaded);
+        }
+        lastSavedAddressBook = loaded;
+        lastSavedModificationCount = loaded.getModificationCount();
+        return loaded;
+    }
+
+    /**
+     * Loads the full address book from this storage file, creating an empty one if the file does not exist.
+     * The file is streamed one person at a time (see {@link XmlAddressBookReader}).
+     *
+     * @throws StorageOperationException if there were errors reading and/or converting data from file.
+     */
+    private AddressBook loadSnapshot() throws StorageOperationException {
+        if (isBinary) {
+            return loadBinarySnapshot();
+        }
         try (final Reader fileReader =
                      new BufferedReader(new FileReader(path.toFile()))) {
 
-            final Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            final AdaptedAddressBook loaded = (AdaptedAddressBook) unmarshaller.unmarshal(fileReader);
-            // manual check for missing elements
-            if (loaded.isAnyRequiredFieldMissing()) {
-                throw new StorageOperationException("File data missing some elements");
-            }
-            return loaded.toModelType();
+            return XmlAddressBookReader.read(fileReader);
 
         /* Note: Here, we are using an exception to create the file if it is missing. However, we should minimize
          * using exceptions to facilitate normal paths of execution. If we consider the missing file as a 'normal'
@@ -136,19 +317,39 @@ public class StorageFile {
         // create empty file if not found
         } catch (FileNotFoundException fnfe) {
             final AddressBook empty = new AddressBook();
-            save(empty);
+            saveSnapshot(empty);
             return empty;
 
         // other errors
         } catch (IOException ioe) {
             throw new StorageOperationException("Error writing to file: " + path);
-        } catch (JAXBException jaxbe) {
+        } catch (XMLStreamException xmlse) {
             throw new StorageOperationException("Error parsing file data format");
         } catch (IllegalValueException ive) {
             throw new StorageOperationException("File contains illegal data values; data type constraints not met");
         }
     }
 
+    /**
+     * Loads the full address book from this binary storage file, creating an empty one if the file does not exist.
+     * The file is streamed and decoded one person at a time, as XML files are.
+     *
+     * @throws StorageOperationException if there were errors reading and/or converting data from file.
+     */
+    private AddressBook loadBinarySnapshot() throws StorageOperationException {
+        try (final InputStream fileStream = new BufferedInputStream(Files.newInputStream(path))) {
+            return BinaryStorageFormat.read(fileStream);
+        } catch (NoSuchFileException nsfe) {
+            final AddressBook empty = new AddressBook();
+            saveSnapshot(empty);
+            return empty;
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error reading from file: " + path);
+        } catch (IllegalValueException ive) {
+            throw new StorageOperationException("File contains illegal data values; data type constraints not met");
+        }
+    }
+
     public String getPath() {
         return path.toString();
     }
@@ -0,0 +1,378 @@
+package seedu.addressbook.storage;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.AddressBookChangeListener;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.UniqueTagList;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only write-ahead log of the changes made to an address book since its last snapshot.
+ *
+ * Each change is one line of tab-separated fields, the first being the record type.
+ * Changes are buffered in memory as they happen and appended to the file when the storage file is saved.
+ * The buffer is guarded by this object's monitor, so records can be taken while changes are being made.
+ * A record is only committed once its terminating line break is in the file.
+ */
+public class StorageJournal implements AddressBookChangeListener {
+
+    /** Appended to the snapshot file path to get the journal file path. */
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final String RECORD_ADD_PERSON = "add";
+    private static final String RECORD_REMOVE_PERSON = "remove";
+    private static final String RECORD_ADD_TAG = "tag";
+    private static final String RECORD_REMOVE_TAG = "untag";
+    private static final String RECORD_CLEAR = "clear";
+
+    private static final char FIELD_SEPARATOR = '\t';
+    private static final char RECORD_TERMINATOR = '\n';
+    private static final String PRIVATE_FLAG = "1";
+    private static final String PUBLIC_FLAG = "0";
+
+    public final Path path;
+
+    private final StringBuilder pendingRecords = new StringBuilder();
+    private AddressBook attachedAddressBook;
+    private int recordCount = 0;
+
+    /** Length of the committed records in the file, if it ends in a torn record to be cut off; otherwise -1. */
+    private long committedFileLength = -1;
+
+    /**
+     * @param snapshotPath path of the snapshot file this journal belongs to
+     */
+    public StorageJournal(Path snapshotPath) {
+        path = snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Starts recording the changes made to the given address book, replacing any previously attached one.
+     */
+    public void attachTo(AddressBook addressBook) {
+        if (attachedAddressBook != null) {
+            attachedAddressBook.removeChangeListener(this);
+        }
+        attachedAddressBook = addressBook;
+        addressBook.addChangeListener(this);
+    }
+
+    /**
+     * Returns true if this journal is recording the changes made to the given address book.
+     */
+    public boolean isAttachedTo(AddressBook addressBook) {
+        return attachedAddressBook == addressBook;
+    }
+
+    /**
+     * Returns the number of records in the journal, including those not yet written.
+     */
+    public synchronized int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns the records buffered since they were last taken, and empties the buffer.
+     * The records are then written with {@link #write(String)}, which needs no lock on the address book.
+     */
+    public synchronized String takePendingRecords() {
+        final String records = pendingRecords.toString();
+        pendingRecords.setLength(0);
+        return records;
+    }
+
+    /**
+     * Puts records taken with {@link #takePendingRecords()} but not written back in front of the buffer,
+     * so that they are written with the next records.
+     */
+    public synchronized void restorePendingRecords(String records) {
+        pendingRecords.insert(0, records);
+    }
+
+    /**
+     * Discards all buffered records and restarts the record count, e.g. once a new snapshot captures their changes.
+     * The records already in the file are left until {@link #deleteFile()}.
+     */
+    public synchronized void discardPendingRecords() {
+        pendingRecords.setLength(0);
+        recordCount = 0;
+    }
+
+    /**
+     * Appends the given records to the journal file, first cutting off any torn record found by
+     * {@link #replayInto(AddressBook)}.
+     *
+     * @throws StorageOperationException if there were errors writing to the journal file.
+     */
+    public void write(String records) throws StorageOperationException {
+        if (records.isEmpty()) {
+            return;
+        }
+        try {
+            truncateTornRecord();
+            try (final Writer fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                fileWriter.append(records);
+            }
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error writing to file: " + path);
+        }
+    }
+
+    private void truncateTornRecord() throws IOException {
+        if (committedFileLength < 0) {
+            return;
+        }
+        try (final FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            fileChannel.truncate(committedFileLength);
+        }
+        committedFileLength = -1;
+    }
+
+    /**
+     * Deletes the journal file, e.g. after its changes have been captured in a new snapshot.
+     *
+     * @throws StorageOperationException if the journal file could not be deleted.
+     */
+    public void deleteFile() throws StorageOperationException {
+        committedFileLength = -1;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error writing to file: " + path);
+        }
+    }
+
+    /**
+     * Re-applies every committed record in the journal file to the given address book.
+     *
+     * Replay is tolerant of records whose effect is already present (e.g. adding a person that already exists),
+     * so replaying over a snapshot that was written just before the journal file could be deleted is harmless.
+     * A final record that is unterminated or undecodable is treated as a torn write: it is ignored, and cut off
+     * the file before the next {@link #write(String)} appends to it.
+     *
+     * @throws StorageOperationException if there were errors reading or decoding the journal file.
+     */
+    public void replayInto(AddressBook addressBook) throws StorageOperationException {
+        final byte[] contents;
+        try {
+            contents = Files.readAllBytes(path);
+        } catch (NoSuchFileException nsfe) {
+            return;
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error reading from file: " + path);
+        }
+
+        int recordStart = 0;
+        int lineNumber = 1;
+        while (recordStart < contents.length) {
+            final int recordEnd = indexOfRecordTerminator(contents, recordStart);
+            if (recordEnd < 0) {
+                break;
+            }
+            final String record = new String(contents, recordStart, recordEnd - recordStart, StandardCharsets.UTF_8);
+            try {
+                applyRecord(record, addressBook);
+                recordCount++;
+            } catch (IllegalValueException | IndexOutOfBoundsException e) {
+                final boolean isLastRecord = recordEnd == contents.length - 1;
+                if (!isLastRecord) {
+                    throw new StorageOperationException("Journal contains an invalid record at line " + lineNumber);
+                }
+                break;
+            }
+            recordStart = recordEnd + 1;
+            lineNumber++;
+        }
+        committedFileLength = recordStart < contents.length ? recordStart : -1;
+    }
+
+    private static int indexOfRecordTerminator(byte[] contents, int fromIndex) {
+        for (int i = fromIndex; i < contents.length; i++) {
+            if (contents[i] == RECORD_TERMINATOR) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void applyRecord(String record, AddressBook addressBook) throws IllegalValueException {
+        final List<String> fields = splitFields(record);
+        switch (fields.get(0)) {
+        case RECORD_ADD_PERSON:
+            final Person toAdd = decodePerson(fields);
+            if (!addressBook.containsPerson(toAdd)) {
+                addressBook.addPerson(toAdd);
+            }
+            return;
+        case RECORD_REMOVE_PERSON:
+            final Person toRemove = decodePerson(fields);
+            if (addressBook.containsPerson(toRemove)) {
+                try {
+                    addressBook.removePerson(toRemove);
+                } catch (Exception e) {
+                    throw new AssertionError("person is known to exist", e);
+                }
+            }
+            return;
+        case RECORD_ADD_TAG:
+            final Tag tagToAdd = new Tag(fields.get(1));
+            if (!addressBook.containsTag(tagToAdd)) {
+                addressBook.addTag(tagToAdd);
+            }
+            return;
+        case RECORD_REMOVE_TAG:
+            final Tag tagToRemove = new Tag(fields.get(1));
+            if (addressBook.containsTag(tagToRemove)) {
+                try {
+                    addressBook.removeTag(tagToRemove);
+                } catch (Exception e) {
+                    throw new AssertionError("tag is known to exist", e);
+                }
+            }
+            return;
+        case RECORD_CLEAR:
+            addressBook.clear();
+            return;
+        default:
+            throw new IllegalValueException("Unknown journal record type: " + fields.get(0));
+        }
+    }
+
+    @Override
+    public void personAdded(ReadOnlyPerson person) {
+        appendRecord(RECORD_ADD_PERSON, encodePerson(person));
+    }
+
+    @Override
+    public void personRemoved(ReadOnlyPerson person) {
+        appendRecord(RECORD_REMOVE_PERSON, encodePerson(person));
+    }
+
+    @Override
+    public void tagAdded(Tag tag) {
+        appendRecord(RECORD_ADD_TAG, tag.tagName);
+    }
+
+    @Override
+    public void tagRemoved(Tag tag) {
+        appendRecord(RECORD_REMOVE_TAG, tag.tagName);
+    }
+
+    @Override
+    public void cleared() {
+        appendRecord(RECORD_CLEAR);
+    }
+
+    private synchronized void appendRecord(String type, String... fields) {
+        pendingRecords.append(type);
+        for (String field : fields) {
+            pendingRecords.append(FIELD_SEPARATOR);
+            appendEscaped(field);
+        }
+        pendingRecords.append(RECORD_TERMINATOR);
+        recordCount++;
+    }
+
+    /**
+     * Encodes the person as the fields: name, phone, phone flag, email, email flag, address, address flag, tags...
+     */
+    private static String[] encodePerson(ReadOnlyPerson person) {
+        final List<String> fields = new ArrayList<>();
+        fields.add(person.getName().fullName);
+        fields.add(person.getPhone().value);
+        fields.add(person.getPhone().isPrivate() ? PRIVATE_FLAG : PUBLIC_FLAG);
+        fields.add(person.getEmail().value);
+        fields.add(person.getEmail().isPrivate() ? PRIVATE_FLAG : PUBLIC_FLAG);
+        fields.add(person.getAddress().value);
+        fields.add(person.getAddress().isPrivate() ? PRIVATE_FLAG : PUBLIC_FLAG);
+        for (Tag tag : person.getTagsView()) {
+            fields.add(tag.tagName);
+        }
+        return fields.toArray(new String[fields.size()]);
+    }
+
+    /**
+     * Decodes a person from the fields of a record, where the first field is the record type.
+     */
+    private static Person decodePerson(List<String> fields) throws IllegalValueException {
+        final List<Tag> tags = new ArrayList<>();
+        for (int i = 8; i < fields.size(); i++) {
+            tags.add(new Tag(fields.get(i)));
+        }
+        return new Person(
+                new Name(fields.get(1)),
+                new Phone(fields.get(2), PRIVATE_FLAG.equals(fields.get(3))),
+                new Email(fields.get(4), PRIVATE_FLAG.equals(fields.get(5))),
+                new Address(fields.get(6), PRIVATE_FLAG.equals(fields.get(7))),
+                new UniqueTagList(tags));
+    }
+
+    /**
+     * Escapes the characters that would otherwise be read as field or record separators.
+     */
+    private void appendEscaped(String field) {
+        for (int i = 0; i < field.length(); i++) {
+            final char c = field.charAt(i);
+            switch (c) {
+            case '\\':
+                pendingRecords.append("\\\\");
+                break;
+            case '\t':
+                pendingRecords.append("\\t");
+                break;
+            case '\n':
+                pendingRecords.append("\\n");
+                break;
+            case '\r':
+                pendingRecords.append("\\r");
+                break;
+            default:
+                pendingRecords.append(c);
+            }
+        }
+    }
+
+    /**
+     * Splits a record into its unescaped fields.
+     */
+    private static List<String> splitFields(String record) throws IllegalValueException {
+        final List<String> fields = new ArrayList<>();
+        final StringBuilder field = new StringBuilder();
+        for (int i = 0; i < record.length(); i++) {
+            final char c = record.charAt(i);
+            if (c == FIELD_SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\\') {
+                if (++i == record.length()) {
+                    throw new IllegalValueException("Dangling escape in journal record");
+                }
+                final char escaped = record.charAt(i);
+                field.append(escaped == 't' ? '\t' : escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,186 @@
+package seedu.addressbook.storage;
+
+import seedu.addressbook.common.Utils;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.UniqueTagList;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+import seedu.addressbook.storage.jaxb.AdaptedAddressBook;
+import seedu.addressbook.storage.jaxb.AdaptedPerson;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the XML storage format written through {@link AdaptedAddressBook} with a streaming (StAX) parser.
+ *
+ * Each person element is decoded and added to the address book before the next one is read, so apart from the
+ * address book itself, memory use is proportional to a single record rather than to the whole document.
+ * As with JAXB unmarshalling, unknown elements are ignored.
+ */
+class XmlAddressBookReader {
+
+    /* Element and attribute names, as mapped by AdaptedAddressBook and AdaptedPerson */
+    private static final String ROOT_ELEMENT = "AddressBook";
+    private static final String PERSON_ELEMENT = "persons";
+    private static final String TAG_ELEMENT = "tags";
+    private static final String NAME_ELEMENT = "name";
+    private static final String PHONE_ELEMENT = "phone";
+    private static final String EMAIL_ELEMENT = "email";
+    private static final String ADDRESS_ELEMENT = "address";
+    private static final String PERSON_TAG_ELEMENT = "tagged";
+    private static final String IS_PRIVATE_ATTRIBUTE = "isPrivate";
+
+    private static final String MESSAGE_MISSING_ELEMENTS = "File data missing some elements";
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    /**
+     * A contact detail as read from the file, before validation.
+     *
+     * @see AdaptedPerson
+     */
+    private static class ContactDetail {
+        final String value;
+        final boolean isPrivate;
+
+        ContactDetail(String value, boolean isPrivate) {
+            this.value = value;
+            this.isPrivate = isPrivate;
+        }
+    }
+
+    private XmlAddressBookReader() {}
+
+    /**
+     * Creates a parser factory that does not process DTDs or resolve external entities, since the storage file
+     * path is supplied by the user.
+     */
+    private static XMLInputFactory createInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Reads a whole address book document.
+     *
+     * @throws XMLStreamException if the document is not well-formed XML.
+     * @throws IllegalValueException if any value violates the data constraints, including duplicate persons
+     *                               and duplicate tags.
+     * @throws StorageOperationException if the document does not have the expected structure.
+     */
+    static AddressBook read(Reader source)
+            throws XMLStreamException, IllegalValueException, StorageOperationException {
+        final XMLStreamReader xmlReader = INPUT_FACTORY.createXMLStreamReader(source);
+        try {
+            xmlReader.nextTag();
+            if (!ROOT_ELEMENT.equals(xmlReader.getLocalName())) {
+                throw new StorageOperationException("Error parsing file data format");
+            }
+
+            final AddressBook loaded = new AddressBook();
+            // the tags listed in the file, which may not repeat; persons' tags are already in the address book
+            final UniqueTagList listedTags = new UniqueTagList();
+            while (xmlReader.nextTag() == XMLStreamReader.START_ELEMENT) {
+                switch (xmlReader.getLocalName()) {
+                case PERSON_ELEMENT:
+                    loaded.addPerson(readPerson(xmlReader));
+                    break;
+                case TAG_ELEMENT:
+                    final Tag tag = new Tag(xmlReader.getElementText());
+                    listedTags.add(tag);
+                    if (!loaded.containsTag(tag)) {
+                        loaded.addTag(tag);
+                    }
+                    break;
+                default:
+                    skipElement(xmlReader);
+                }
+            }
+            return loaded;
+        } finally {
+            xmlReader.close();
+        }
+    }
+
+    /**
+     * Reads the person element the reader is on, leaving the reader on its end tag.
+     */
+    private static Person readPerson(XMLStreamReader xmlReader)
+            throws XMLStreamException, IllegalValueException, StorageOperationException {
+        String name = null;
+        ContactDetail phone = null;
+        ContactDetail email = null;
+        ContactDetail address = null;
+        final List<Tag> tags = new ArrayList<>();
+
+        while (xmlReader.nextTag() == XMLStreamReader.START_ELEMENT) {
+            switch (xmlReader.getLocalName()) {
+            case NAME_ELEMENT:
+                name = xmlReader.getElementText();
+                break;
+            case PHONE_ELEMENT:
+                phone = readContactDetail(xmlReader);
+                break;
+            case EMAIL_ELEMENT:
+                email = readContactDetail(xmlReader);
+                break;
+            case ADDRESS_ELEMENT:
+                address = readContactDetail(xmlReader);
+                break;
+            case PERSON_TAG_ELEMENT:
+                tags.add(new Tag(xmlReader.getElementText()));
+                break;
+            default:
+                skipElement(xmlReader);
+            }
+        }
+
+        if (Utils.isAnyNull(name, phone, email, address)) {
+            throw new StorageOperationException(MESSAGE_MISSING_ELEMENTS);
+        }
+        return new Person(
+                new Name(name),
+                new Phone(phone.value, phone.isPrivate),
+                new Email(email.value, email.isPrivate),
+                new Address(address.value, address.isPrivate),
+                new UniqueTagList(tags));
+    }
+
+    /**
+     * Reads the contact detail element the reader is on, leaving the reader on its end tag.
+     */
+    private static ContactDetail readContactDetail(XMLStreamReader xmlReader) throws XMLStreamException {
+        final String isPrivate = xmlReader.getAttributeValue(null, IS_PRIVATE_ATTRIBUTE);
+        // same lexical forms as the xsd:boolean values accepted by JAXB
+        final boolean isPrivateValue = "true".equals(isPrivate) || "1".equals(isPrivate);
+        return new ContactDetail(xmlReader.getElementText(), isPrivateValue);
+    }
+
+    /**
+     * Skips the element the reader is on, including all its content, leaving the reader on its end tag.
+     */
+    private static void skipElement(XMLStreamReader xmlReader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = xmlReader.next();
+            if (event == XMLStreamReader.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamReader.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+}
@@ -1,20 +1,18 @@
 package seedu.addressbook.storage.jaxb;
 
 import seedu.addressbook.data.AddressBook;
-import seedu.addressbook.data.exception.IllegalValueException;
 import seedu.addressbook.data.tag.Tag;
-import seedu.addressbook.data.tag.UniqueTagList;
-import seedu.addressbook.data.person.Person;
 import seedu.addressbook.data.person.ReadOnlyPerson;
-import seedu.addressbook.data.person.UniquePersonList;
 
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
- * JAXB-friendly adapted address book data holder class.
+ * JAXB-friendly adapted address book data holder class, used to write the XML storage format.
+ * The format is read back by {@link seedu.addressbook.storage.XmlAddressBookReader}.
  */
 @XmlRootElement(name = "AddressBook")
 public class AdaptedAddressBook {
@@ -35,53 +33,20 @@ public class AdaptedAddressBook {
      * @param source future changes to this will not affect the created AdaptedAddressBook
      */
     public AdaptedAddressBook(AddressBook source) {
-        persons = new ArrayList<>();
-        tags = new ArrayList<>();
-        for (ReadOnlyPerson person : source.getAllPersons()) {
-            persons.add(new AdaptedPerson(person));
-        }
-        for (Tag tag : source.getAllTags()) {
-            tags.add(new AdaptedTag(tag));
-        }
+        this(source.getAllPersonsSnapshot(), source.getAllTagsView());
     }
 
-
     /**
-     * Returns true if any required field is missing.
-     *
-     * JAXB does not enforce (required = true) without a given XML schema.
-     * Since we do most of our validation using the data class constructors, the only extra logic we need
-     * is to ensure that every xml element in the document is present. JAXB sets missing elements as null,
-     * so we check for that.
+     * Converts the given persons and tags of an address book into this class for JAXB use.
      */
-    public boolean isAnyRequiredFieldMissing() {
-        for (AdaptedTag tag : tags) {
-            if (tag.isAnyRequiredFieldMissing()) {
-                return true;
-            }
-        }
-        for (AdaptedPerson person : persons) {
-            if (person.isAnyRequiredFieldMissing()) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-
-    /**
-     * Converts this jaxb-friendly {@code AdaptedAddressBook} object into the corresponding(@code AddressBook} object.
-     * @throws IllegalValueException if there were any data constraints violated in the adapted person
-     */
-    public AddressBook toModelType() throws IllegalValueException {
-        final List<Tag> tagList = new ArrayList<>();
-        final List<Person> personList = new ArrayList<>();
-        for (AdaptedTag tag : tags) {
-            tagList.add(tag.toModelType());
+    public AdaptedAddressBook(Collection<? extends ReadOnlyPerson> sourcePersons, Collection<Tag> sourceTags) {
+        persons = new ArrayList<>(sourcePersons.size());
+        tags = new ArrayList<>(sourceTags.size());
+        for (ReadOnlyPerson person : sourcePersons) {
+            persons.add(new AdaptedPerson(person));
         }
-        for (AdaptedPerson person : persons) {
-            personList.add(person.toModelType());
+        for (Tag tag : sourceTags) {
+            tags.add(new AdaptedTag(tag));
         }
-        return new AddressBook(new UniquePersonList(personList), new UniqueTagList(tagList));
     }
 }
@@ -1,10 +1,7 @@
 package seedu.addressbook.storage.jaxb;
 
-import seedu.addressbook.common.Utils;
-import seedu.addressbook.data.exception.IllegalValueException;
 import seedu.addressbook.data.tag.Tag;
-import seedu.addressbook.data.tag.UniqueTagList;
-import seedu.addressbook.data.person.*;
+import seedu.addressbook.data.person.ReadOnlyPerson;
 
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
@@ -63,45 +60,8 @@ public class AdaptedPerson {
         address.value = source.getAddress().value;
 
         tagged = new ArrayList<>();
-        for (Tag tag : source.getTags()) {
+        for (Tag tag : source.getTagsView()) {
             tagged.add(new AdaptedTag(tag));
         }
     }
-
-    /**
-     * Returns true if any required field is missing.
-     *
-     * JAXB does not enforce (required = true) without a given XML schema.
-     * Since we do most of our validation using the data class constructors, the only extra logic we need
-     * is to ensure that every xml element in the document is present. JAXB sets missing elements as null,
-     * so we check for that.
-     */
-    public boolean isAnyRequiredFieldMissing() {
-        for (AdaptedTag tag : tagged) {
-            if (tag.isAnyRequiredFieldMissing()) {
-                return true;
-            }
-        }
-        // second call only happens if phone/email/address are all not null
-        return Utils.isAnyNull(name, phone, email, address)
-                || Utils.isAnyNull(phone.value, email.value, address.value);
-    }
-
-    /**
-     * Converts this jaxb-friendly adapted person object into the Person object.
-     *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted person
-     */
-    public Person toModelType() throws IllegalValueException {
-        final List<Tag> personTags = new ArrayList<>();
-        for (AdaptedTag tag : tagged) {
-            personTags.add(tag.toModelType());
-        }
-        final Name name = new Name(this.name);
-        final Phone phone = new Phone(this.phone.value, this.phone.isPrivate);
-        final Email email = new Email(this.email.value, this.email.isPrivate);
-        final Address address = new Address(this.address.value, this.address.isPrivate);
-        final UniqueTagList tags = new UniqueTagList(personTags);
-        return new Person(name, phone, email, address, tags);
-    }
 }
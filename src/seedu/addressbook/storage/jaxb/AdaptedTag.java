@@ -1,7 +1,5 @@
 package seedu.addressbook.storage.jaxb;
 
-import seedu.addressbook.common.Utils;
-import seedu.addressbook.data.exception.IllegalValueException;
 import seedu.addressbook.data.tag.Tag;
 
 import javax.xml.bind.annotation.XmlValue;
@@ -27,25 +25,4 @@ public class AdaptedTag {
     public AdaptedTag(Tag source) {
         tagName = source.tagName;
     }
-
-    /**
-     * Returns true if any required field is missing.
-     *
-     * JAXB does not enforce (required = true) without a given XML schema.
-     * Since we do most of our validation using the data class constructors, the only extra logic we need
-     * is to ensure that every xml element in the document is present. JAXB sets missing elements as null,
-     * so we check for that.
-     */
-    public boolean isAnyRequiredFieldMissing() {
-        return Utils.isAnyNull(tagName);
-    }
-
-    /**
-     * Converts this jaxb-friendly adapted tag object into the Tag object.
-     *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted person
-     */
-    public Tag toModelType() throws IllegalValueException {
-        return new Tag(tagName);
-    }
 }
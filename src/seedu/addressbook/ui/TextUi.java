@@ -3,14 +3,18 @@ package seedu.addressbook.ui;
 import static seedu.addressbook.common.Messages.*;
 
 import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.commands.NextCommand;
 import seedu.addressbook.data.person.ReadOnlyPerson;
 
+import java.io.BufferedWriter;
 import java.io.InputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintStream;
-import java.util.ArrayList;
+import java.io.PrintWriter;
 import java.util.List;
 import java.util.Optional;
 import java.util.Scanner;
+import java.util.regex.Pattern;
 
 /**
  * Text UI of the application.
@@ -25,19 +29,28 @@ public class TextUi {
 
     private static final String DIVIDER = "===================================================";
 
-    /** Format of indexed list item */
-    private static final String MESSAGE_INDEXED_LIST_ITEM = "\t%1$d. %2$s";
+    /** Separates the index of an indexed list item from the item */
+    private static final String INDEXED_LIST_ITEM_SEPARATOR = ". ";
 
+    /** Size of the buffer that indexed lists are written through, in chars. */
+    private static final int LIST_BUFFER_SIZE = 8192;
 
     /** Offset required to convert between 1-indexing and 0-indexing.  */
     public static final int DISPLAYED_INDEX_OFFSET = 1;
 
     /** Format of a comment input line. Comment lines are silently consumed when reading user input. */
     private static final String COMMENT_LINE_FORMAT_REGEX = "#.*";
+    private static final Pattern COMMENT_LINE_FORMAT = Pattern.compile(COMMENT_LINE_FORMAT_REGEX);
 
     private final Scanner in;
     private final PrintStream out;
 
+    /**
+     * Buffered writer over {@link #out} for indexed lists, so a list is written in a few large chunks instead of
+     * flushing {@link #out} after every row. Flushed at the end of every list, before anything else is shown.
+     */
+    private final PrintWriter listOut;
+
     public TextUi() {
         this(System.in, System.out);
     }
@@ -45,6 +58,7 @@ public class TextUi {
     public TextUi(InputStream in, PrintStream out) {
         this.in = new Scanner(in);
         this.out = out;
+        this.listOut = new PrintWriter(new BufferedWriter(new OutputStreamWriter(out), LIST_BUFFER_SIZE), false);
     }
 
     /**
@@ -54,7 +68,7 @@ public class TextUi {
      * @param rawInputLine full raw user input line.
      * @return true if the entire user input line should be ignored.
      */
-    private boolean shouldIgnore(String rawInputLine) {
+    public static boolean shouldIgnore(String rawInputLine) {
         return rawInputLine.trim().isEmpty() || isCommentLine(rawInputLine);
     }
 
@@ -64,8 +78,8 @@ public class TextUi {
      * @param rawInputLine full raw user input line.
      * @return true if input line is a comment.
      */
-    private boolean isCommentLine(String rawInputLine) {
-        return rawInputLine.trim().matches(COMMENT_LINE_FORMAT_REGEX);
+    private static boolean isCommentLine(String rawInputLine) {
+        return COMMENT_LINE_FORMAT.matcher(rawInputLine.trim()).matches();
     }
 
     /**
@@ -121,48 +135,64 @@ public class TextUi {
      * command execution segments.
      */
     public void showResultToUser(CommandResult result) {
-        final Optional<List<? extends ReadOnlyPerson>> resultPersons = result.getRelevantPersons();
-        if (resultPersons.isPresent()) {
-            showPersonListView(resultPersons.get());
+        final Optional<List<? extends ReadOnlyPerson>> pagePersons = result.getPersonsOnPage();
+        if (!pagePersons.isPresent()) {
+            showToUser(result.feedbackToUser, DIVIDER);
+            return;
+        }
+        showPersonListView(pagePersons.get(), result.getFirstIndexOnPage());
+
+        final int pageCount = CommandResult.getPageCount(result.getRelevantPersons().get().size());
+        if (pageCount == 1) {
+            showToUser(result.feedbackToUser, DIVIDER);
+        } else if (result.getPageNumber() < pageCount) {
+            showToUser(result.feedbackToUser,
+                    String.format(MESSAGE_PAGE_SHOWN, result.getPageNumber(), pageCount)
+                            + " " + String.format(MESSAGE_NEXT_PAGE_HINT, NextCommand.COMMAND_WORD),
+                    DIVIDER);
+        } else {
+            showToUser(result.feedbackToUser, String.format(MESSAGE_PAGE_SHOWN, result.getPageNumber(), pageCount),
+                    DIVIDER);
         }
-        showToUser(result.feedbackToUser, DIVIDER);
     }
 
     /**
      * Shows a list of persons to the user, formatted as an indexed list.
      * Private contact details are hidden.
+     *
+     * @param firstIndex position of the first person in the whole listing, starting from 0
      */
-    private void showPersonListView(List<? extends ReadOnlyPerson> persons) {
-        final List<String> formattedPersons = new ArrayList<>();
+    private void showPersonListView(List<? extends ReadOnlyPerson> persons, int firstIndex) {
+        int displayIndex = firstIndex + DISPLAYED_INDEX_OFFSET;
         for (ReadOnlyPerson person : persons) {
-            formattedPersons.add(person.getAsTextHidePrivate());
-        }
-        showToUserAsIndexedList(formattedPersons);
-    }
-
-    /** Shows a list of strings to the user, formatted as an indexed list. */
-    private void showToUserAsIndexedList(List<String> list) {
-        showToUser(getIndexedListForViewing(list));
-    }
-
-    /** Formats a list of strings as a viewable indexed list. */
-    private static String getIndexedListForViewing(List<String> listItems) {
-        final StringBuilder formatted = new StringBuilder();
-        int displayIndex = 0 + DISPLAYED_INDEX_OFFSET;
-        for (String listItem : listItems) {
-            formatted.append(getIndexedListItem(displayIndex, listItem)).append("\n");
+            writeIndexedListItem(displayIndex, person.getAsTextHidePrivate());
             displayIndex++;
         }
-        return formatted.toString();
+        // an indexed list is followed by an empty line
+        listOut.print(LINE_PREFIX);
+        listOut.print(LS);
+        listOut.flush();
     }
 
     /**
-     * Formats a string as a viewable indexed list item.
+     * Writes a string to {@link #listOut} as one item of an indexed list, without building the formatted line.
      *
      * @param visibleIndex visible index for this listing
      */
-    private static String getIndexedListItem(int visibleIndex, String listItem) {
-        return String.format(MESSAGE_INDEXED_LIST_ITEM, visibleIndex, listItem);
+    private void writeIndexedListItem(int visibleIndex, String listItem) {
+        listOut.print(LINE_PREFIX);
+        listOut.print('\t');
+        listOut.print(visibleIndex);
+        listOut.print(INDEXED_LIST_ITEM_SEPARATOR);
+        int lineStart = 0;
+        for (int lineEnd = listItem.indexOf('\n'); lineEnd >= 0; lineEnd = listItem.indexOf('\n', lineStart)) {
+            listOut.write(listItem, lineStart, lineEnd - lineStart);
+            listOut.print(LS);
+            listOut.print(LINE_PREFIX);
+            lineStart = lineEnd + 1;
+        }
+        listOut.write(listItem, lineStart, listItem.length() - lineStart);
+        listOut.print(LS);
     }
 
 }
@@ -0,0 +1,47 @@
+package seedu.addressbook;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.storage.StorageFile;
+
+public class MainTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void runUntilExitCommand_batchScript_changesSavedAtEnd() throws Exception {
+        Path script = testFolder.getRoot().toPath().resolve("script.txt");
+        Files.write(script, Arrays.asList(
+                "# adds two persons",
+                "add John Doe p/98765432 e/johnd@gmail.com a/John street, block 123, #01-01",
+                "",
+                "add Betsy Crowe p/1234567 e/betsycrowe@gmail.com a/Newgate Prison t/criminal"));
+        String storagePath = testFolder.getRoot().getPath() + "/" + "temp.xml";
+
+        new Main().runUntilExitCommand(new String[] {Main.BATCH_LAUNCH_FLAG, script.toString(), storagePath});
+
+        AddressBook saved = new StorageFile(storagePath).load();
+        assertEquals(2, saved.getAllPersons().immutableListView().size());
+    }
+
+    @Test
+    public void runUntilExitCommand_saveIntervalWithoutBatch_exceptionThrown() throws Exception {
+        String storagePath = testFolder.getRoot().getPath() + "/" + "temp.xml";
+        thrown.expect(RuntimeException.class);
+        new Main().runUntilExitCommand(new String[] {Main.SAVE_INTERVAL_LAUNCH_FLAG, "10", storagePath});
+    }
+}
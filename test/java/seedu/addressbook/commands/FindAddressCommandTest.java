@@ -0,0 +1,80 @@
+package seedu.addressbook.commands;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.UniqueTagList;
+import seedu.addressbook.util.TypicalPersons;
+
+public class FindAddressCommandTest {
+
+    private final AddressBook addressBook = new TypicalPersons().getTypicalAddressBook();
+    private final TypicalPersons td = new TypicalPersons();
+
+    @Test
+    public void execute() {
+        //word, different case: matched
+        assertFindAddressCommandBehavior(addressBook, new String[]{"clementi"},
+                Arrays.asList(td.amy, td.bill, td.candy));
+
+        //part of a word: matched
+        assertFindAddressCommandBehavior(addressBook, new String[]{"2 Clem", "ROA"},
+                Arrays.asList(td.amy, td.bill, td.candy));
+
+        //several keywords: matched in list order
+        assertFindAddressCommandBehavior(addressBook, new String[]{"3 ", "1 "}, Arrays.asList(td.amy, td.candy));
+
+        //keyword in name only: not matched
+        assertFindAddressCommandBehavior(addressBook, new String[]{"Amy"}, Collections.emptyList());
+    }
+
+    @Test
+    public void execute_parallelSearch_sameResultsInListOrder() throws Exception {
+        final AddressBook largeBook = new AddressBook();
+        final List<ReadOnlyPerson> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            final Person person = new Person(new Name("Person"), new Phone(String.valueOf(i), false),
+                    new Email("p@e.mail", false), new Address(i + " Street " + (i % 7), i % 3 == 0),
+                    new UniqueTagList());
+            largeBook.addPerson(person);
+            if (i % 7 == 4) {
+                expected.add(person);
+            }
+        }
+
+        largeBook.setParallelSearchThreshold(Integer.MAX_VALUE);
+        assertFindAddressCommandBehavior(largeBook, new String[]{"street 4"}, expected);
+
+        largeBook.setParallelSearchThreshold(0);
+        assertFindAddressCommandBehavior(largeBook, new String[]{"street 4"}, expected);
+    }
+
+    /**
+     * Executes the findaddress command for the given keywords and verifies
+     * the result matches the persons in the expectedPersonList exactly, in order.
+     */
+    private void assertFindAddressCommandBehavior(AddressBook book, String[] keywords,
+                                                  List<ReadOnlyPerson> expectedPersonList) {
+        FindAddressCommand command = new FindAddressCommand(new HashSet<>(Arrays.asList(keywords)));
+        command.setData(book, Collections.emptyList());
+        CommandResult result = command.execute();
+
+        assertEquals(Command.getMessageForPersonListShownSummary(expectedPersonList), result.feedbackToUser);
+        assertEquals(expectedPersonList, result.getRelevantPersons().get());
+    }
+
+}
@@ -25,8 +25,11 @@ public class FindCommandTest {
         //same word, same case: matched
         assertFindCommandBehavior(new String[]{"Amy"}, Arrays.asList(td.amy));
 
-        //same word, different case: not matched
-        assertFindCommandBehavior(new String[]{"aMy"}, Collections.emptyList());
+        //same word, different case: matched
+        assertFindCommandBehavior(new String[]{"aMy"}, Arrays.asList(td.amy));
+
+        //same word, full-width compatibility characters: matched
+        assertFindCommandBehavior(new String[]{"\uFF21\uFF4D\uFF59"}, Arrays.asList(td.amy));
 
         //partial word: not matched
         assertFindCommandBehavior(new String[]{"my"}, Collections.emptyList());
@@ -42,6 +45,36 @@ public class FindCommandTest {
         assertFindCommandBehavior(new String[]{"Clementi"}, Collections.emptyList());
     }
 
+    @Test
+    public void execute_prefixKeywords() throws IllegalValueException {
+        //prefix of a word, same case: matched
+        assertFindCommandBehavior(new String[]{"Am*"}, Arrays.asList(td.amy));
+
+        //prefix of a word, different case: matched
+        assertFindCommandBehavior(new String[]{"aM*"}, Arrays.asList(td.amy));
+
+        //whole word as prefix: matched
+        assertFindCommandBehavior(new String[]{"Bill*"}, Arrays.asList(td.bill));
+
+        //prefix matching several words, mixed with a whole word: matched once each, in list order
+        assertFindCommandBehavior(new String[]{"C*", "Amy"}, Arrays.asList(td.amy, td.bill, td.candy));
+
+        //prefix not at start of word: not matched
+        assertFindCommandBehavior(new String[]{"my*"}, Collections.emptyList());
+
+        //wildcard alone: everyone matched
+        assertFindCommandBehavior(new String[]{"*"}, Arrays.asList(td.amy, td.bill, td.candy));
+    }
+
+    @Test
+    public void execute_afterPersonRemoved_personNotMatched() throws Exception {
+        addressBook.removePerson(td.bill);
+        assertFindCommandBehavior(new String[]{"Amy", "Bill", "Candy"}, Arrays.asList(td.amy, td.candy));
+
+        addressBook.clear();
+        assertFindCommandBehavior(new String[]{"Amy"}, Collections.emptyList());
+    }
+
     /**
      * Executes the find command for the given keywords and verifies
      * the result matches the persons in the expectedPersonList exactly.
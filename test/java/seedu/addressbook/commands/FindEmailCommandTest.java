@@ -0,0 +1,63 @@
+package seedu.addressbook.commands;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.util.TypicalPersons;
+
+public class FindEmailCommandTest {
+
+    private final AddressBook addressBook = new TypicalPersons().getTypicalAddressBook();
+    private final TypicalPersons td = new TypicalPersons();
+
+    @Test
+    public void execute() throws Exception {
+        final Person dan = new Person(td.amy.getName(), td.amy.getPhone(), new Email("Dan@Comp.Gmail.com", false),
+                td.amy.getAddress(), td.amy.getTags());
+        addressBook.removePerson(td.amy);
+        addressBook.addPerson(dan);
+
+        //whole email, different case: matched
+        assertFindEmailCommandBehavior(new String[]{"BC@gmail.com"}, Arrays.asList(td.bill));
+
+        //domain: matched in list order, including subdomains
+        assertFindEmailCommandBehavior(new String[]{"@gmail.com"}, Arrays.asList(td.bill, td.candy, dan));
+
+        //subdomain: matched
+        assertFindEmailCommandBehavior(new String[]{"@comp.gmail.com"}, Arrays.asList(dan));
+
+        //partial domain name: not matched
+        assertFindEmailCommandBehavior(new String[]{"@mail.com"}, Collections.emptyList());
+    }
+
+    @Test(expected = IllegalValueException.class)
+    public void constructor_invalidDomain_exceptionThrown() throws Exception {
+        new FindEmailCommand(new HashSet<>(Arrays.asList("@gmail/com")));
+    }
+
+    /**
+     * Executes the findemail command for the given arguments and verifies
+     * the result matches the persons in the expectedPersonList exactly, in order.
+     */
+    private void assertFindEmailCommandBehavior(String[] arguments, List<ReadOnlyPerson> expectedPersonList)
+            throws IllegalValueException {
+        FindEmailCommand command = new FindEmailCommand(new HashSet<>(Arrays.asList(arguments)));
+        command.setData(addressBook, Collections.emptyList());
+        CommandResult result = command.execute();
+
+        assertEquals(Command.getMessageForPersonListShownSummary(expectedPersonList), result.feedbackToUser);
+        assertEquals(expectedPersonList, result.getRelevantPersons().get());
+    }
+
+}
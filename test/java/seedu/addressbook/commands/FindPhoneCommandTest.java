@@ -0,0 +1,73 @@
+package seedu.addressbook.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.util.TypicalPersons;
+
+public class FindPhoneCommandTest {
+
+    private final AddressBook addressBook = new TypicalPersons().getTypicalAddressBook();
+    private final TypicalPersons td = new TypicalPersons();
+
+    @Test
+    public void execute() throws IllegalValueException {
+        //whole number: matched
+        assertFindPhoneCommandBehavior(new String[]{"92229222"}, Arrays.asList(td.bill));
+
+        //part of a number without wildcard: not matched
+        assertFindPhoneCommandBehavior(new String[]{"9222"}, Collections.emptyList());
+
+        //number ending: matched in list order
+        assertFindPhoneCommandBehavior(new String[]{"*3339333", "*1"}, Arrays.asList(td.amy, td.candy));
+
+        //number start as ending: not matched
+        assertFindPhoneCommandBehavior(new String[]{"*92229"}, Collections.emptyList());
+    }
+
+    @Test
+    public void execute_privatePhone_matchedButHidden() throws Exception {
+        final Person secretAmy = new Person(td.amy.getName(), new Phone("81234567", true), td.amy.getEmail(),
+                td.amy.getAddress(), td.amy.getTags());
+        final AddressBook book = new AddressBook();
+        book.addPerson(secretAmy);
+
+        final FindPhoneCommand command = new FindPhoneCommand(new HashSet<>(Arrays.asList("*4567")));
+        command.setData(book, Collections.emptyList());
+        final List<? extends ReadOnlyPerson> found = command.execute().getRelevantPersons().get();
+        assertEquals(Arrays.asList(secretAmy), found);
+        assertFalse(found.get(0).getAsTextHidePrivate().contains("81234567"));
+    }
+
+    @Test(expected = IllegalValueException.class)
+    public void constructor_invalidPhone_exceptionThrown() throws Exception {
+        new FindPhoneCommand(new HashSet<>(Arrays.asList("*12a")));
+    }
+
+    /**
+     * Executes the findphone command for the given arguments and verifies
+     * the result matches the persons in the expectedPersonList exactly, in order.
+     */
+    private void assertFindPhoneCommandBehavior(String[] arguments, List<ReadOnlyPerson> expectedPersonList)
+            throws IllegalValueException {
+        FindPhoneCommand command = new FindPhoneCommand(new HashSet<>(Arrays.asList(arguments)));
+        command.setData(addressBook, Collections.emptyList());
+        CommandResult result = command.execute();
+
+        assertEquals(Command.getMessageForPersonListShownSummary(expectedPersonList), result.feedbackToUser);
+        assertEquals(expectedPersonList, result.getRelevantPersons().get());
+    }
+
+}
@@ -0,0 +1,98 @@
+package seedu.addressbook.commands;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.UniqueTagList;
+import seedu.addressbook.util.TypicalPersons;
+
+public class FindTagCommandTest {
+
+    private final TypicalPersons td = new TypicalPersons();
+    private AddressBook addressBook;
+    private Person amy;
+    private Person bill;
+    private Person candy;
+
+    @Before
+    public void setUp() throws Exception {
+        amy = withTags(td.amy, "friends", "school");
+        bill = withTags(td.bill, "friends");
+        candy = withTags(td.candy, "school", "family");
+        addressBook = new AddressBook();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(bill);
+        addressBook.addPerson(candy);
+    }
+
+    @Test
+    public void execute() throws Exception {
+        //single tag: matched in list order
+        assertFindTagCommandBehavior(new String[][]{{"school"}}, Arrays.asList(amy, candy));
+
+        //different case: not matched
+        assertFindTagCommandBehavior(new String[][]{{"Friends"}}, Collections.emptyList());
+
+        //any of several tags: matched once each
+        assertFindTagCommandBehavior(new String[][]{{"friends"}, {"school"}}, Arrays.asList(amy, bill, candy));
+
+        //all of several tags: matched
+        assertFindTagCommandBehavior(new String[][]{{"friends", "school"}}, Arrays.asList(amy));
+
+        //all of several tags, one unknown: not matched
+        assertFindTagCommandBehavior(new String[][]{{"friends", "unknown"}}, Collections.emptyList());
+
+        //all tags of any group: matched
+        assertFindTagCommandBehavior(new String[][]{{"friends", "school"}, {"family"}}, Arrays.asList(amy, candy));
+    }
+
+    @Test
+    public void execute_afterPersonRemoved_personNotMatched() throws Exception {
+        addressBook.removePerson(amy);
+        assertFindTagCommandBehavior(new String[][]{{"friends"}}, Arrays.asList(bill));
+
+        addressBook.clear();
+        assertFindTagCommandBehavior(new String[][]{{"friends"}}, Collections.emptyList());
+    }
+
+    private static Person withTags(Person person, String... tagNames) throws Exception {
+        final Set<Tag> tags = new HashSet<>();
+        for (String tagName : tagNames) {
+            tags.add(new Tag(tagName));
+        }
+        return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                new UniqueTagList(tags));
+    }
+
+    /**
+     * Executes the findtag command for the given tag groups and verifies
+     * the result matches the persons in the expectedPersonList exactly, in order.
+     */
+    private void assertFindTagCommandBehavior(String[][] tagGroups, List<ReadOnlyPerson> expectedPersonList)
+            throws Exception {
+        final List<Set<String>> groups = new ArrayList<>();
+        for (String[] group : tagGroups) {
+            groups.add(new HashSet<>(Arrays.asList(group)));
+        }
+        FindTagCommand command = new FindTagCommand(groups);
+        command.setData(addressBook, Collections.emptyList());
+        CommandResult result = command.execute();
+
+        assertEquals(Command.getMessageForPersonListShownSummary(expectedPersonList), result.feedbackToUser);
+        assertEquals(expectedPersonList, result.getRelevantPersons().get());
+    }
+
+}
@@ -0,0 +1,70 @@
+package seedu.addressbook.commands;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.util.TypicalPersons;
+
+public class FuzzyFindCommandTest {
+
+    private final AddressBook addressBook = new TypicalPersons().getTypicalAddressBook();
+    private final TypicalPersons td = new TypicalPersons();
+
+    @Test
+    public void execute() {
+        //exact word, different case: matched
+        assertFuzzyFindCommandBehavior(new String[]{"cLINT"}, Arrays.asList(td.bill));
+
+        //one substitution in a 3 letter word: matched
+        assertFuzzyFindCommandBehavior(new String[]{"Ama"}, Arrays.asList(td.amy));
+
+        //two edits in a 3 letter word: not matched
+        assertFuzzyFindCommandBehavior(new String[]{"Ana"}, Collections.emptyList());
+
+        //transposed letters in a longer word: matched
+        assertFuzzyFindCommandBehavior(new String[]{"Cnady"}, Arrays.asList(td.candy));
+
+        //misspelt words of several persons: matched in list order
+        assertFuzzyFindCommandBehavior(new String[]{"Destin", "Bukc"}, Arrays.asList(td.amy, td.candy));
+
+        //short keyword must match exactly
+        assertFuzzyFindCommandBehavior(new String[]{"Am"}, Collections.emptyList());
+    }
+
+    @Test
+    public void execute_afterPersonRemoved_personNotMatched() throws Exception {
+        addressBook.removePerson(td.bill);
+        assertFuzzyFindCommandBehavior(new String[]{"Bil", "Amy"}, Arrays.asList(td.amy));
+    }
+
+    @Test
+    public void getMaxEditDistance() {
+        assertEquals(0, FuzzyFindCommand.getMaxEditDistance("Al"));
+        assertEquals(1, FuzzyFindCommand.getMaxEditDistance("Amy"));
+        assertEquals(2, FuzzyFindCommand.getMaxEditDistance("Candy"));
+    }
+
+    /**
+     * Executes the fuzzy find command for the given keywords and verifies
+     * the result matches the persons in the expectedPersonList exactly, in order.
+     */
+    private void assertFuzzyFindCommandBehavior(String[] keywords, List<ReadOnlyPerson> expectedPersonList) {
+        final Set<String> keywordSet = new HashSet<>(Arrays.asList(keywords));
+        FuzzyFindCommand command = new FuzzyFindCommand(keywordSet);
+        command.setData(addressBook, Collections.emptyList());
+        CommandResult result = command.execute();
+
+        assertEquals(Command.getMessageForPersonListShownSummary(expectedPersonList), result.feedbackToUser);
+        assertEquals(expectedPersonList, result.getRelevantPersons().get());
+    }
+
+}
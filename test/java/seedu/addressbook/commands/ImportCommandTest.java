@@ -0,0 +1,153 @@
+package seedu.addressbook.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.util.TypicalPersons;
+
+public class ImportCommandTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final TypicalPersons td = new TypicalPersons();
+
+    @Test
+    public void execute_validCsv_allImportedInFileOrder() throws Exception {
+        final AddressBook addressBook = new AddressBook();
+        final CommandResult result = executeImport(addressBook, "contacts.csv",
+                "Name,Phone,Email,Address,Tags",
+                "John Doe,98765432,johnd@example.com,\"311, Clementi Ave 2, #02-25\",friends owesMoney",
+                "",
+                "Betsy Crowe,1234567,betsy@example.com,\"Newgate \"\"Prison\"\"\"");
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, 0), result.feedbackToUser);
+        final List<ReadOnlyPerson> persons = addressBook.getAllPersonsSnapshot();
+        assertEquals(2, persons.size());
+        assertEquals("John Doe", persons.get(0).getName().fullName);
+        assertEquals("311, Clementi Ave 2, #02-25", persons.get(0).getAddress().value);
+        assertEquals(Arrays.asList(new Tag("friends"), new Tag("owesMoney")),
+                new ArrayList<>(persons.get(0).getTagsView()));
+        assertEquals("Newgate \"Prison\"", persons.get(1).getAddress().value);
+        assertTrue(persons.get(1).getTagsView().isEmpty());
+        assertTrue(addressBook.containsTag(new Tag("owesMoney")));
+    }
+
+    @Test
+    public void execute_spacesAroundValues_valuesTrimmed() throws Exception {
+        final AddressBook addressBook = new AddressBook();
+        final CommandResult result = executeImport(addressBook, "contacts.csv",
+                "John Doe, 98765432, johnd@example.com , \" 311, Clementi Ave 2 \" , friends");
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 1, 0), result.feedbackToUser);
+        final ReadOnlyPerson person = addressBook.getAllPersonsSnapshot().get(0);
+        assertEquals("John Doe", person.getName().fullName);
+        assertEquals("98765432", person.getPhone().value);
+        assertEquals("johnd@example.com", person.getEmail().value);
+        assertEquals("311, Clementi Ave 2", person.getAddress().value);
+        assertEquals(Collections.singletonList(new Tag("friends")), new ArrayList<>(person.getTagsView()));
+    }
+
+    @Test
+    public void execute_personsWithSameTag_shareMasterTag() throws Exception {
+        final AddressBook addressBook = new AddressBook();
+        executeImport(addressBook, "contacts.csv",
+                "John Doe,98765432,johnd@example.com,Clementi,friends",
+                "Betsy Crowe,1234567,betsy@example.com,Newgate,friends");
+
+        final List<ReadOnlyPerson> persons = addressBook.getAllPersonsSnapshot();
+        assertSame(persons.get(0).getTagsView().iterator().next(), persons.get(1).getTagsView().iterator().next());
+        assertEquals(1, addressBook.getAllTags().toSet().size());
+    }
+
+    @Test
+    public void execute_tsvFile_splitOnTabs() throws Exception {
+        final AddressBook addressBook = new AddressBook();
+        final CommandResult result = executeImport(addressBook, "contacts.tsv",
+                "John Doe\t98765432\tjohnd@example.com\t311, Clementi Ave 2\tfriends");
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 1, 0), result.feedbackToUser);
+        assertEquals("311, Clementi Ave 2", addressBook.getAllPersonsSnapshot().get(0).getAddress().value);
+    }
+
+    @Test
+    public void execute_invalidAndDuplicateLines_rejectedWithLineNumbers() throws Exception {
+        final AddressBook addressBook = td.getTypicalAddressBook();
+        final ReadOnlyPerson existing = td.amy;
+        final int initialSize = addressBook.getAllPersonsSnapshot().size();
+        final CommandResult result = executeImport(addressBook, "contacts.csv",
+                "John Doe,98765432,johnd@example.com,Clementi",
+                "Jane Doe,not a phone,jane@example.com,Clementi",
+                "John Doe,98765432,johnd@example.com,Clementi",
+                existing.getName() + "," + existing.getPhone() + "," + existing.getEmail() + "," + existing.getAddress(),
+                "Too,Few,Values",
+                "Open \"quote,1,a@b.c,Clementi",
+                "Jim,2,jim@example.com,Clementi,bad_tag");
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 1, 6)
+                + "\n" + String.format(ImportCommand.MESSAGE_REJECTED_LINE, 2, Phone.MESSAGE_PHONE_CONSTRAINTS)
+                + "\n" + String.format(ImportCommand.MESSAGE_REJECTED_LINE, 3, AddCommand.MESSAGE_DUPLICATE_PERSON)
+                + "\n" + String.format(ImportCommand.MESSAGE_REJECTED_LINE, 4, AddCommand.MESSAGE_DUPLICATE_PERSON)
+                + "\n" + String.format(ImportCommand.MESSAGE_REJECTED_LINE, 5,
+                        String.format(ImportCommand.MESSAGE_WRONG_VALUE_COUNT, 3))
+                + "\n" + String.format(ImportCommand.MESSAGE_REJECTED_LINE, 6,
+                        ImportCommand.MESSAGE_UNTERMINATED_QUOTE)
+                + "\n" + String.format(ImportCommand.MESSAGE_REJECTED_LINE, 7, Tag.MESSAGE_TAG_CONSTRAINTS),
+                result.feedbackToUser);
+        assertEquals(initialSize + 1, addressBook.getAllPersonsSnapshot().size());
+    }
+
+    @Test
+    public void execute_manyLines_parsedAcrossChunksInOrder() throws Exception {
+        final AddressBook addressBook = new AddressBook();
+        final List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 25000; i++) {
+            lines.add("Person,9" + i + ",p" + i + "@example.com,Street " + i);
+        }
+        lines.set(20000, "Person,9x,bad@example.com,Street");
+        final CommandResult result = executeImport(addressBook, "contacts.csv", lines.toArray(new String[0]));
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 24999, 1)
+                + "\n" + String.format(ImportCommand.MESSAGE_REJECTED_LINE, 20001, Phone.MESSAGE_PHONE_CONSTRAINTS),
+                result.feedbackToUser);
+        final List<ReadOnlyPerson> persons = addressBook.getAllPersonsSnapshot();
+        assertEquals("90", persons.get(0).getPhone().value);
+        assertEquals("924999", persons.get(persons.size() - 1).getPhone().value);
+    }
+
+    @Test
+    public void execute_missingFile_nothingImported() {
+        final AddressBook addressBook = new AddressBook();
+        final String filePath = testFolder.getRoot().getPath() + "/missing.csv";
+        final ImportCommand command = new ImportCommand(filePath);
+        command.setData(addressBook, Collections.emptyList());
+
+        assertEquals(String.format(ImportCommand.MESSAGE_FILE_READ_FAILED, filePath), command.execute().feedbackToUser);
+        assertTrue(addressBook.getAllPersonsSnapshot().isEmpty());
+    }
+
+    private CommandResult executeImport(AddressBook addressBook, String fileName, String... lines) throws Exception {
+        final Path file = testFolder.getRoot().toPath().resolve(fileName);
+        Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+        final ImportCommand command = new ImportCommand(file.toString());
+        command.setData(addressBook, Collections.emptyList());
+        return command.execute();
+    }
+}
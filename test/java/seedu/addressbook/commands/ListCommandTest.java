@@ -0,0 +1,97 @@
+package seedu.addressbook.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.addressbook.common.Messages;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.UniqueTagList;
+
+public class ListCommandTest {
+
+    private static final int PERSON_COUNT = CommandResult.PAGE_SIZE * 2 + 1;
+
+    private AddressBook addressBook;
+
+    @Before
+    public void setUp() throws Exception {
+        addressBook = new AddressBook();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            addressBook.addPerson(new Person(new Name("Person"), new Phone(String.valueOf(i), false),
+                    new Email("p@e.mail", false), new Address("Street", false), new UniqueTagList()));
+        }
+    }
+
+    @Test
+    public void execute_pageNumber_showsOnlyThatPage() {
+        final CommandResult result = executeList(2);
+        final List<? extends ReadOnlyPerson> page = result.getPersonsOnPage().get();
+
+        assertEquals(CommandResult.PAGE_SIZE, page.size());
+        assertEquals(CommandResult.PAGE_SIZE, result.getFirstIndexOnPage());
+        assertEquals(addressBook.getAllPersonsSnapshot().get(CommandResult.PAGE_SIZE), page.get(0));
+        // indices still resolve against the whole listing
+        assertEquals(PERSON_COUNT, result.getRelevantPersons().get().size());
+    }
+
+    @Test
+    public void execute_unchangedAddressBook_listingShared() {
+        // listing another page of an unchanged address book does not copy the persons again
+        assertSame(executeList(1).getRelevantPersons().get(), executeList(2).getRelevantPersons().get());
+    }
+
+    @Test
+    public void execute_pageNumberOutOfRange_errorMessage() {
+        for (int pageNumber : new int[] {0, 4}) {
+            final CommandResult result = executeList(pageNumber);
+            assertEquals(Messages.MESSAGE_INVALID_PAGE_NUMBER, result.feedbackToUser);
+            assertFalse(result.getRelevantPersons().isPresent());
+        }
+    }
+
+    @Test
+    public void next_afterListing_showsFollowingPagesUntilNoneLeft() {
+        CommandResult result = executeList(1);
+        for (int expectedPage = 2; expectedPage <= 3; expectedPage++) {
+            result = executeNext(result);
+            assertEquals(expectedPage, result.getPageNumber());
+        }
+        assertEquals(1, result.getPersonsOnPage().get().size());
+
+        final CommandResult noMorePages = executeNext(result);
+        assertEquals(Messages.MESSAGE_NO_MORE_PAGES, noMorePages.feedbackToUser);
+        assertFalse(noMorePages.getRelevantPersons().isPresent());
+    }
+
+    @Test
+    public void next_withoutListing_noMorePages() {
+        final NextCommand command = new NextCommand();
+        command.setData(addressBook, Collections.emptyList());
+        assertEquals(Messages.MESSAGE_NO_MORE_PAGES, command.execute().feedbackToUser);
+    }
+
+    private CommandResult executeList(int pageNumber) {
+        final ListCommand command = new ListCommand(pageNumber);
+        command.setData(addressBook, Collections.emptyList());
+        return command.execute();
+    }
+
+    private CommandResult executeNext(CommandResult previous) {
+        final NextCommand command = new NextCommand();
+        command.setData(addressBook, previous.getRelevantPersons().get(), previous.getPageNumber());
+        return command.execute();
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.addressbook.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import static java.util.Collections.singletonList;
+
+import org.junit.Test;
+
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.UniqueTagList;
+import seedu.addressbook.util.TypicalPersons;
+
+public class AddressBookTest {
+
+    private final TypicalPersons td = new TypicalPersons();
+
+    @Test
+    public void addPerson_duplicateWithNewTag_tagsAndModificationCountUnchanged() throws Exception {
+        AddressBook addressBook = td.getTypicalAddressBook();
+        long modificationCount = addressBook.getModificationCount();
+        Person amyWithNewTag = new Person(td.amy.getName(), td.amy.getPhone(), td.amy.getEmail(),
+                td.amy.getAddress(), new UniqueTagList(new Tag("colleague")));
+
+        boolean isRejected = false;
+        try {
+            addressBook.addPerson(amyWithNewTag);
+        } catch (DuplicatePersonException dpe) {
+            isRejected = true;
+        }
+
+        assertTrue(isRejected);
+        assertFalse(addressBook.containsTag(new Tag("colleague")));
+        assertEquals(modificationCount, addressBook.getModificationCount());
+    }
+
+    @Test
+    public void addPerson_newPersonWithNewTag_tagAdded() throws Exception {
+        AddressBook addressBook = td.getTypicalAddressBook();
+        Person dan = new Person(td.amy.getName(), td.bill.getPhone(), td.candy.getEmail(),
+                td.amy.getAddress(), new UniqueTagList(new Tag("colleague")));
+
+        addressBook.addPerson(dan);
+
+        assertTrue(addressBook.containsTag(new Tag("colleague")));
+        // indexed under the tag, which it shares with the master list
+        assertEquals(singletonList(dan), addressBook.getPersonsWithAllTagsInAnyGroup(
+                singletonList(singletonList(new Tag("colleague")))));
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.addressbook.data;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class BkTreeTest {
+
+    @Test
+    public void editDistance() {
+        assertEquals(0, BkTree.editDistance("john", "john"));
+        assertEquals(1, BkTree.editDistance("john", "jon"));
+        assertEquals(1, BkTree.editDistance("john", "joan"));
+        assertEquals(2, BkTree.editDistance("john", "jonh"));
+        assertEquals(4, BkTree.editDistance("", "john"));
+        assertEquals(3, BkTree.editDistance("kitten", "sitting"));
+    }
+
+    @Test
+    public void getWordsWithinDistance_sameAsLinearScan() {
+        final Random random = new Random(7);
+        final BkTree tree = new BkTree();
+        final Set<String> words = new HashSet<>();
+        for (int i = 0; i < 2000; i++) {
+            final String word = randomWord(random);
+            words.add(word);
+            tree.add(word);
+        }
+        assertEquals(words.size(), tree.size());
+
+        for (int i = 0; i < 50; i++) {
+            final String query = randomWord(random);
+            for (int maxDistance = 0; maxDistance <= 2; maxDistance++) {
+                final Set<String> expected = new HashSet<>();
+                for (String word : words) {
+                    if (BkTree.editDistance(query, word) <= maxDistance) {
+                        expected.add(word);
+                    }
+                }
+                assertEquals(expected, new HashSet<>(tree.getWordsWithinDistance(query, maxDistance)));
+            }
+        }
+    }
+
+    @Test
+    public void getWordsWithinDistance_emptyTree_noWords() {
+        assertEquals(Arrays.asList(), new BkTree().getWordsWithinDistance("john", 2));
+    }
+
+    private static String randomWord(Random random) {
+        final StringBuilder word = new StringBuilder();
+        final int length = 2 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+}
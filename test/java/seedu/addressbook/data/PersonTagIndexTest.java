@@ -0,0 +1,89 @@
+package seedu.addressbook.data;
+
+import static org.junit.Assert.assertEquals;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.UniqueTagList;
+
+public class PersonTagIndexTest {
+
+    private static final int NUMBER_OF_PERSONS = 5000;
+
+    private Tag common;
+    private Tag rare;
+    private PersonTagIndex index;
+    private List<Person> persons;
+
+    @Before
+    public void setUp() throws Exception {
+        common = new Tag("common");
+        rare = new Tag("rare");
+        index = new PersonTagIndex();
+        persons = new ArrayList<>();
+        // "common" is carried densely enough to be kept as a bitmap, "rare" sparsely enough to be kept as an array
+        for (int i = 0; i < NUMBER_OF_PERSONS; i++) {
+            UniqueTagList tags = new UniqueTagList();
+            if (i % 2 == 0) {
+                tags.add(common);
+            }
+            if (i % 300 == 0) {
+                tags.add(rare);
+            }
+            Person person = new Person(new Name("Person"), new Phone("91119111", false),
+                    new Email("p@gmail.com", false), new Address("street", false), tags);
+            persons.add(person);
+            index.add(person);
+        }
+    }
+
+    @Test
+    public void getPersonsWithAllTagsInAnyGroup_sparseAndDenseTags_matchesInIndexingOrder() {
+        assertEquals(personsWhere(i -> i % 2 == 0 && i % 300 == 0),
+                index.getPersonsWithAllTagsInAnyGroup(singletonList(asList(common, rare))));
+        assertEquals(personsWhere(i -> i % 2 == 0 || i % 300 == 0),
+                index.getPersonsWithAllTagsInAnyGroup(asList(singletonList(common), singletonList(rare))));
+    }
+
+    @Test
+    public void getPersonsWithAllTagsInAnyGroup_denseTagThinnedByRemovals_matchesRemaining() {
+        // leaves "common" on 1 in 1000 persons, sparse enough to go back to an array
+        for (int i = 0; i < NUMBER_OF_PERSONS; i += 2) {
+            if (i % 1000 != 0) {
+                index.remove(persons.get(i));
+            }
+        }
+
+        assertEquals(personsWhere(i -> i % 1000 == 0),
+                index.getPersonsWithAllTagsInAnyGroup(singletonList(singletonList(common))));
+        assertEquals(personsWhere(i -> i % 300 == 0 && (i % 2 != 0 || i % 1000 == 0)),
+                index.getPersonsWithAllTagsInAnyGroup(singletonList(singletonList(rare))));
+        assertEquals(personsWhere(i -> i % 3000 == 0),
+                index.getPersonsWithAllTagsInAnyGroup(singletonList(asList(rare, common))));
+    }
+
+    private List<ReadOnlyPerson> personsWhere(IntPredicate condition) {
+        List<ReadOnlyPerson> expected = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_PERSONS; i++) {
+            if (condition.test(i)) {
+                expected.add(persons.get(i));
+            }
+        }
+        return expected;
+    }
+}
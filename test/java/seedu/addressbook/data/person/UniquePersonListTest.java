@@ -0,0 +1,70 @@
+package seedu.addressbook.data.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.UniqueTagList;
+import seedu.addressbook.util.TypicalPersons;
+
+public class UniquePersonListTest {
+
+    private final TypicalPersons td = new TypicalPersons();
+
+    @Test
+    public void contains_samePersonDifferentTags_returnsTrue() throws Exception {
+        UniquePersonList list = new UniquePersonList(td.amy);
+        Person amyWithTags = new Person(td.amy.getName(), td.amy.getPhone(), td.amy.getEmail(),
+                td.amy.getAddress(), new UniqueTagList(new Tag("friend")));
+        assertTrue(list.contains(amyWithTags));
+        assertFalse(list.contains(td.bill));
+    }
+
+    @Test(expected = DuplicatePersonException.class)
+    public void add_duplicatePerson_exceptionThrown() throws Exception {
+        UniquePersonList list = new UniquePersonList(td.amy);
+        list.add(new Person(td.amy));
+    }
+
+    @Test(expected = DuplicatePersonException.class)
+    public void constructor_duplicatePersons_exceptionThrown() throws Exception {
+        new UniquePersonList(td.amy, new Person(td.amy));
+    }
+
+    @Test(expected = PersonNotFoundException.class)
+    public void remove_missingPerson_exceptionThrown() throws Exception {
+        UniquePersonList list = new UniquePersonList(td.amy);
+        list.remove(td.bill);
+    }
+
+    @Test
+    public void immutableListView_afterAddAndRemove_keepsInsertionOrder() throws Exception {
+        UniquePersonList list = new UniquePersonList(td.amy, td.bill);
+        List<ReadOnlyPerson> view = list.immutableListView();
+        assertEquals(td.bill, view.get(1));
+
+        list.add(td.candy);
+        list.remove(new Person(td.amy));
+        assertEquals(Arrays.asList(td.bill, td.candy), view);
+        assertEquals(td.candy, view.get(1));
+    }
+
+    @Test
+    public void snapshot_afterChange_unaffectedAndReplaced() throws Exception {
+        UniquePersonList list = new UniquePersonList(td.amy, td.bill);
+        List<ReadOnlyPerson> snapshot = list.snapshot();
+        assertTrue(snapshot == list.snapshot());
+
+        list.add(td.candy);
+        assertEquals(Arrays.asList(td.amy, td.bill), snapshot);
+        assertEquals(Arrays.asList(td.amy, td.bill, td.candy), list.snapshot());
+    }
+}
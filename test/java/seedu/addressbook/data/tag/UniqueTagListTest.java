@@ -0,0 +1,56 @@
+package seedu.addressbook.data.tag;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.addressbook.data.tag.UniqueTagList.DuplicateTagException;
+
+public class UniqueTagListTest {
+
+    @Test(expected = DuplicateTagException.class)
+    public void constructor_duplicateTags_exceptionThrown() throws Exception {
+        new UniqueTagList(new Tag("friend"), new Tag("colleague"), new Tag("friend"));
+    }
+
+    @Test(expected = DuplicateTagException.class)
+    public void add_duplicateTag_exceptionThrown() throws Exception {
+        UniqueTagList tags = new UniqueTagList(new Tag("friend"));
+        tags.add(new Tag("friend"));
+    }
+
+    @Test
+    public void iterator_keepsInsertionOrder() throws Exception {
+        UniqueTagList tags = new UniqueTagList(new Tag("zebra"), new Tag("apple"));
+        tags.add(new Tag("mango"));
+        tags.remove(new Tag("apple"));
+        assertEquals(Arrays.asList(new Tag("zebra"), new Tag("mango")), new ArrayList<>(tags.toSet()));
+    }
+
+    @Test
+    public void toSet_isLiveView() throws Exception {
+        UniqueTagList tags = new UniqueTagList(new Tag("friend"));
+        Set<Tag> view = tags.toSet();
+        tags.add(new Tag("colleague"));
+        assertTrue(view.contains(new Tag("colleague")));
+        assertEquals(2, view.size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void toSet_modified_exceptionThrown() throws Exception {
+        new UniqueTagList(new Tag("friend")).toSet().clear();
+    }
+
+    @Test
+    public void equals_sameTagsDifferentOrder_returnsTrue() throws Exception {
+        UniqueTagList first = new UniqueTagList(new Tag("friend"), new Tag("colleague"));
+        UniqueTagList second = new UniqueTagList(new Tag("colleague"), new Tag("friend"));
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+}
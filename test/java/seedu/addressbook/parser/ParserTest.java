@@ -10,10 +10,13 @@ import seedu.addressbook.data.person.*;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Random;
 import java.util.Set;
+import java.util.regex.Matcher;
 
 import static org.junit.Assert.*;
 import static seedu.addressbook.common.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.addressbook.common.Messages.MESSAGE_INVALID_PAGE_NUMBER;
 import static seedu.addressbook.common.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 
 public class ParserTest {
@@ -65,6 +68,25 @@ public class ParserTest {
         parseAndAssertCommandType(input, ListCommand.class);
     }
 
+    @Test
+    public void parse_listCommandPageNumber_pageParsedCorrectly() {
+        final ListCommand result = parseAndAssertCommandType("list 3", ListCommand.class);
+        assertEquals(3, result.getPageNumber());
+        assertEquals(1, parseAndAssertCommandType("list ", ListCommand.class).getPageNumber());
+    }
+
+    @Test
+    public void parse_listCommandPageIsNotSingleNumber_errorMessage() {
+        final String[] inputs = { "list notAnumber", "list 8*wh12", "list 1 2" };
+        parseAndAssertIncorrectWithMessage(MESSAGE_INVALID_PAGE_NUMBER, inputs);
+    }
+
+    @Test
+    public void parse_nextCommand_parsedCorrectly() {
+        final String input = "next";
+        parseAndAssertCommandType(input, NextCommand.class);
+    }
+
     @Test
     public void parse_exitCommand_parsedCorrectly() {
         final String input = "exit";
@@ -181,6 +203,64 @@ public class ParserTest {
         assertEquals(keySet, result.getKeywords());
     }
 
+    @Test
+    public void parse_fuzzyFindCommandInvalidArgs_errorMessage() {
+        final String resultMessage =
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FuzzyFindCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, "find~", "find~ ");
+    }
+
+    @Test
+    public void parse_fuzzyFindCommandValidArgs_parsedCorrectly() {
+        final Set<String> keySet = new HashSet<>(Arrays.asList("key1", "key2", "key1"));
+        final FuzzyFindCommand result =
+                parseAndAssertCommandType("find~ key1 key2 key1", FuzzyFindCommand.class);
+        assertEquals(keySet, result.getKeywords());
+    }
+
+    /*
+     * Tests for find persons by tag command ================================================================
+     */
+
+    @Test
+    public void parse_findTagCommandInvalidArgs_errorMessage() {
+        final String resultMessage =
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTagCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, "findtag", "findtag ");
+    }
+
+    @Test
+    public void parse_findTagCommandMissingOperand_errorMessage() {
+        final String resultMessage =
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTagCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage,
+                "findtag friends+", "findtag +friends", "findtag friends++school", "findtag family friends+");
+    }
+
+    @Test
+    public void parse_findTagCommandInvalidTag_errorMessage() {
+        parseAndAssertIncorrectWithMessage(Tag.MESSAGE_TAG_CONSTRAINTS, "findtag fri-ends");
+    }
+
+    @Test
+    public void parse_findTagCommandValidArgs_parsedCorrectly() throws IllegalValueException {
+        final FindTagCommand result =
+                parseAndAssertCommandType("findtag friends+school  family", FindTagCommand.class);
+        final Set<Tag> firstGroup = new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("school")));
+        final Set<Tag> secondGroup = new HashSet<>(Arrays.asList(new Tag("family")));
+        assertEquals(Arrays.asList(firstGroup, secondGroup), result.getTagGroups());
+    }
+
+    @Test
+    public void parse_importCommand_filePathParsedCorrectly() {
+        final String[] inputs = { "import", "import  " };
+        parseAndAssertIncorrectWithMessage(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE), inputs);
+
+        final ImportCommand result = parseAndAssertCommandType("import  my contacts.csv ", ImportCommand.class);
+        assertEquals("my contacts.csv", result.getFilePath());
+    }
+
     /*
      * Tests for add person command ==============================================================================
      */
@@ -252,6 +332,83 @@ public class ParserTest {
         assertEquals(result.getPerson(), testPerson);
     }
 
+    @Test
+    public void parse_addCommandTrickyPrefixes_parsedCorrectly() throws IllegalValueException {
+        final AddCommand result = parseAndAssertCommandType(
+                "add  Pepp Ap pp/123 e/pp@e.p a/a p t street t/t t/tt ", AddCommand.class);
+        final ReadOnlyPerson person = result.getPerson();
+        assertEquals("Pepp Ap", person.getName().fullName);
+        assertTrue(person.getPhone().isPrivate());
+        assertFalse(person.getEmail().isPrivate());
+        assertEquals("pp@e.p", person.getEmail().value);
+        assertEquals("a p t street", person.getAddress().value);
+        assertEquals(new HashSet<>(Arrays.asList(new Tag("t"), new Tag("tt"))), person.getTagsView());
+    }
+
+    @Test
+    public void parse_addCommandRandomArgs_sameAsReferenceGrammar() {
+        final String[] pieces = {
+            "Jo", "Ann", " ", "  ", "p", "e", "a", "t", "/", "12", "9", "x@y.z", "a@b",
+            " p/", " pp/", " e/", " pe/", " a/", " pa/", " t/", " pt/", "\t", "_"
+        };
+        final Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            final StringBuilder args = new StringBuilder();
+            final int pieceCount = 1 + random.nextInt(12);
+            for (int j = 0; j < pieceCount; j++) {
+                args.append(pieces[random.nextInt(pieces.length)]);
+            }
+            assertAddParsedAsReferenceGrammar(args.toString());
+        }
+        // well-formed commands with random values
+        for (int i = 0; i < 5000; i++) {
+            assertAddParsedAsReferenceGrammar(pieces[random.nextInt(pieces.length)]
+                    + (random.nextBoolean() ? " pp/" : " p/") + pieces[random.nextInt(pieces.length)]
+                    + (random.nextBoolean() ? " pe/" : " e/") + pieces[random.nextInt(pieces.length)]
+                    + (random.nextBoolean() ? " pa/" : " a/") + pieces[random.nextInt(pieces.length)]
+                    + (random.nextBoolean() ? " t/" + pieces[random.nextInt(pieces.length)] : ""));
+        }
+    }
+
+    /**
+     * Asserts that the add command with the given args parses to what {@link Parser#PERSON_DATA_ARGS_FORMAT}
+     * describes: an incorrect format, an invalid field value, or a person with the matched fields.
+     */
+    private void assertAddParsedAsReferenceGrammar(String args) {
+        final Command result = parser.parseCommand("add " + args);
+        final Matcher matcher = Parser.PERSON_DATA_ARGS_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            assertTrue(args, result instanceof IncorrectCommand);
+            assertEquals(args, String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddCommand.MESSAGE_USAGE),
+                    ((IncorrectCommand) result).feedbackToUser);
+            return;
+        }
+        final String tagArguments = matcher.group("tagArguments");
+        final Set<String> tags = tagArguments.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(Arrays.asList(tagArguments.replaceFirst(" t/", "").split(" t/")));
+        final AddCommand expected;
+        try {
+            expected = new AddCommand(matcher.group("name"),
+                    matcher.group("phone"), matcher.group("isPhonePrivate").equals("p"),
+                    matcher.group("email"), matcher.group("isEmailPrivate").equals("p"),
+                    matcher.group("address"), matcher.group("isAddressPrivate").equals("p"),
+                    tags);
+        } catch (IllegalValueException ive) {
+            assertTrue(args, result instanceof IncorrectCommand);
+            assertEquals(args, ive.getMessage(), ((IncorrectCommand) result).feedbackToUser);
+            return;
+        }
+        assertTrue(args, result instanceof AddCommand);
+        final ReadOnlyPerson expectedPerson = expected.getPerson();
+        final ReadOnlyPerson actualPerson = ((AddCommand) result).getPerson();
+        assertEquals(args, expectedPerson.getAsTextShowAll(), actualPerson.getAsTextShowAll());
+        assertEquals(args, expectedPerson.getPhone().isPrivate(), actualPerson.getPhone().isPrivate());
+        assertEquals(args, expectedPerson.getEmail().isPrivate(), actualPerson.getEmail().isPrivate());
+        assertEquals(args, expectedPerson.getAddress().isPrivate(), actualPerson.getAddress().isPrivate());
+        assertEquals(args, expectedPerson.getTagsView(), actualPerson.getTagsView());
+    }
+
     private static Person generateTestPerson() {
         try {
             return new Person(
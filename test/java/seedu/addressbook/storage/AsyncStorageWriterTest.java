@@ -0,0 +1,171 @@
+package seedu.addressbook.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+import seedu.addressbook.util.TypicalPersons;
+
+public class AsyncStorageWriterTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final TypicalPersons td = new TypicalPersons();
+
+    @Test
+    public void close_pendingChanges_savedBeforeReturning() throws Exception {
+        StorageFile storage = getTempStorage();
+        AddressBook ab = storage.load();
+        AsyncStorageWriter writer = new AsyncStorageWriter(storage, ab, AsyncStorageWriter.NO_MAX_LATENCY, Integer.MAX_VALUE);
+        writer.start();
+
+        synchronized (ab) {
+            ab.addPerson(td.amy);
+            ab.addPerson(td.bill);
+        }
+        writer.close();
+
+        assertEquals(ab.getAllPersons(), getTempStorage().load().getAllPersons());
+    }
+
+    @Test
+    public void changeMade_batchSizeReached_savedInBackground() throws Exception {
+        StorageFile storage = getTempStorage();
+        AddressBook ab = storage.load();
+        Files.delete(Paths.get(storage.getPath()));
+        AsyncStorageWriter writer = new AsyncStorageWriter(storage, ab, AsyncStorageWriter.NO_MAX_LATENCY, 2);
+        writer.start();
+
+        synchronized (ab) {
+            ab.addPerson(td.amy);
+        }
+        Thread.sleep(100);
+        assertFalse(Files.exists(Paths.get(storage.getPath())));
+
+        synchronized (ab) {
+            ab.addPerson(td.bill);
+        }
+        for (int i = 0; i < 50 && !Files.exists(Paths.get(storage.getPath())); i++) {
+            Thread.sleep(100);
+        }
+        assertTrue(Files.exists(Paths.get(storage.getPath())));
+        writer.close();
+    }
+
+    @Test
+    public void getLastFailure_failedSaveThenSuccessfulSave_failureCleared() throws Exception {
+        final AtomicInteger saveCount = new AtomicInteger();
+        StorageFile storage = new StorageFile(testFolder.getRoot().getPath() + "/" + "temp.xml") {
+            @Override
+            public void save(AddressBook addressBook) throws StorageOperationException {
+                if (saveCount.incrementAndGet() == 1) {
+                    throw new IllegalStateException("transient failure");
+                }
+                super.save(addressBook);
+            }
+        };
+        AddressBook ab = new AddressBook();
+        AsyncStorageWriter writer = new AsyncStorageWriter(storage, ab, AsyncStorageWriter.NO_MAX_LATENCY, 1);
+        writer.start();
+
+        synchronized (ab) {
+            ab.addPerson(td.amy);
+        }
+        awaitSaveCount(saveCount, 1);
+        Thread.sleep(100);
+        assertNotNull(writer.getLastFailure());
+
+        synchronized (ab) {
+            ab.addPerson(td.bill);
+        }
+        awaitSaveCount(saveCount, 2);
+        Thread.sleep(100);
+        assertNull(writer.getLastFailure());
+        writer.close();
+    }
+
+    @Test
+    public void flush_whileWritingFile_addressBookNotLocked() throws Exception {
+        StorageFile storage = new StorageFile(testFolder.getRoot().getPath() + "/" + "temp.bin");
+        AddressBook ab = new AddressBook();
+        final AtomicBoolean isBlockingReads = new AtomicBoolean(false);
+        final CountDownLatch isWriting = new CountDownLatch(1);
+        final CountDownLatch canFinishWriting = new CountDownLatch(1);
+        ab.addPerson(new Person(td.amy) {
+            @Override
+            public Name getName() {
+                if (isBlockingReads.get()) {
+                    // read while the file is written; block the save there
+                    isWriting.countDown();
+                    try {
+                        canFinishWriting.await();
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.getName();
+            }
+        });
+        AsyncStorageWriter writer = new AsyncStorageWriter(storage, ab, AsyncStorageWriter.NO_MAX_LATENCY, 1);
+        isBlockingReads.set(true);
+
+        Thread saver = new Thread(() -> {
+            try {
+                writer.flush();
+            } catch (StorageOperationException soe) {
+                throw new AssertionError(soe);
+            }
+        });
+        saver.start();
+        assertTrue(isWriting.await(5, TimeUnit.SECONDS));
+
+        Thread changer = new Thread(() -> {
+            synchronized (ab) {
+                try {
+                    ab.addPerson(td.bill);
+                } catch (DuplicatePersonException dpe) {
+                    throw new AssertionError(dpe);
+                }
+            }
+        });
+        changer.start();
+        changer.join(5000);
+        final boolean isChangeMadeDuringWrite = !changer.isAlive();
+
+        isBlockingReads.set(false);
+        canFinishWriting.countDown();
+        saver.join(5000);
+        changer.join(5000);
+        assertTrue(isChangeMadeDuringWrite);
+    }
+
+    private static void awaitSaveCount(AtomicInteger saveCount, int expected) throws InterruptedException {
+        for (int i = 0; i < 50 && saveCount.get() < expected; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(expected, saveCount.get());
+    }
+
+    private StorageFile getTempStorage() throws Exception {
+        return new StorageFile(testFolder.getRoot().getPath() + "/" + "temp.xml");
+    }
+}
@@ -1,7 +1,13 @@
 package seedu.addressbook.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collections;
 import org.junit.Rule;
 import org.junit.Test;
@@ -75,6 +81,156 @@ public class StorageFileTest {
         assertStorageFilesEqual(storage, getStorage("ValidData.xml"));
     }
 
+    @Test
+    public void load_journaledChanges_replayedOverSnapshot() throws Exception {
+        StorageFile storage = getTempJournaledStorage();
+        AddressBook ab = storage.load();
+        AddressBook expectedAB = getTestAddressBook();
+        for (Person person : expectedAB.getAllPersons()) {
+            ab.addPerson(new Person(person));
+        }
+        ab.removePerson(expectedAB.getAllPersons().immutableListView().get(0));
+        expectedAB.removePerson(expectedAB.getAllPersons().immutableListView().get(0));
+        storage.save(ab);
+
+        AddressBook reloadedAB = getTempJournaledStorage().load();
+        assertEquals(expectedAB.getAllPersons(), reloadedAB.getAllPersons());
+        assertEquals(expectedAB.getAllTags(), reloadedAB.getAllTags());
+    }
+
+    @Test
+    public void save_journaledClear_snapshotUnchangedUntilCompaction() throws Exception {
+        StorageFile storage = getTempJournaledStorage();
+        storage.save(getTestAddressBook());
+        AddressBook ab = storage.load();
+        ab.clear();
+        storage.save(ab);
+
+        // the snapshot still holds the persons; only the journal records the clear
+        assertEquals(getTestAddressBook().getAllPersons(), getTempStorage().load().getAllPersons());
+        assertEquals(new AddressBook().getAllPersons(), getTempJournaledStorage().load().getAllPersons());
+    }
+
+    @Test
+    public void load_unterminatedLastJournalRecord_recordIgnored() throws Exception {
+        StorageFile storage = getTempJournaledStorage();
+        storage.save(getTestAddressBook());
+        // a complete record, but torn before its line break was written
+        Files.write(getTempJournalPath(), "tag\tcolleague".getBytes(StandardCharsets.UTF_8));
+
+        assertFalse(getTempJournaledStorage().load().containsTag(new Tag("colleague")));
+    }
+
+    @Test
+    public void save_afterLoadingTornJournal_tornRecordCutOff() throws Exception {
+        StorageFile storage = getTempJournaledStorage();
+        storage.save(getTestAddressBook());
+        Files.write(getTempJournalPath(), "tag\tcolleague\ntag\tfami".getBytes(StandardCharsets.UTF_8));
+
+        AddressBook ab = storage.load();
+        ab.addTag(new Tag("neighbour"));
+        storage.save(ab);
+
+        AddressBook reloadedAB = getTempJournaledStorage().load();
+        assertTrue(reloadedAB.containsTag(new Tag("colleague")));
+        assertTrue(reloadedAB.containsTag(new Tag("neighbour")));
+        assertFalse(reloadedAB.containsTag(new Tag("fami")));
+    }
+
+    @Test
+    public void load_duplicateTags_exceptionThrown() throws Exception {
+        StorageFile storage = getTempStorage();
+        Files.write(Paths.get(storage.getPath()), ("<AddressBook>\n"
+                + "    <tags>friend</tags>\n"
+                + "    <tags>friend</tags>\n"
+                + "</AddressBook>\n").getBytes(StandardCharsets.UTF_8));
+        thrown.expect(StorageOperationException.class);
+        storage.load();
+    }
+
+    @Test
+    public void save_unchangedAddressBook_fileNotRewritten() throws Exception {
+        AddressBook ab = getTestAddressBook();
+        StorageFile storage = getTempStorage();
+        storage.save(ab);
+        Files.delete(Paths.get(storage.getPath()));
+
+        storage.save(ab);
+        assertFalse(Files.exists(Paths.get(storage.getPath())));
+
+        ab.clear();
+        storage.save(ab);
+        assertTrue(Files.exists(Paths.get(storage.getPath())));
+    }
+
+    @Test
+    public void save_binaryFormat_loadsSameAddressBook() throws Exception {
+        StorageFile storage = new StorageFile(testFolder.getRoot().getPath() + "/" + "temp.bin");
+        storage.save(getTestAddressBook());
+
+        AddressBook loadedAB = new StorageFile(storage.getPath()).load();
+        assertEquals(getTestAddressBook().getAllPersons(), loadedAB.getAllPersons());
+        assertEquals(getTestAddressBook().getAllTags(), loadedAB.getAllTags());
+    }
+
+    @Test
+    public void save_binaryFormatAfterLoad_overwritesLoadedFile() throws Exception {
+        StorageFile storage = new StorageFile(testFolder.getRoot().getPath() + "/" + "temp.bin");
+        storage.save(getTestAddressBook());
+
+        AddressBook loadedAB = storage.load();
+        loadedAB.clear();
+        storage.save(loadedAB);
+        assertTrue(new StorageFile(storage.getPath()).load().getAllPersons().immutableListView().isEmpty());
+    }
+
+    @Test
+    public void load_invalidBinaryFormat_exceptionThrown() throws Exception {
+        // an XML file renamed to the binary extension
+        String binaryPath = testFolder.getRoot().getPath() + "/" + "temp.bin";
+        Files.copy(Paths.get(TEST_DATA_FOLDER, "ValidData.xml"), Paths.get(binaryPath));
+        thrown.expect(StorageOperationException.class);
+        new StorageFile(binaryPath).load();
+    }
+
+    @Test
+    public void load_truncatedBinaryFile_exceptionThrown() throws Exception {
+        StorageFile storage = new StorageFile(testFolder.getRoot().getPath() + "/" + "temp.bin");
+        storage.save(getTestAddressBook());
+        Path binaryPath = Paths.get(storage.getPath());
+        byte[] contents = Files.readAllBytes(binaryPath);
+        Files.write(binaryPath, Arrays.copyOf(contents, contents.length / 2));
+
+        thrown.expect(StorageOperationException.class);
+        new StorageFile(storage.getPath()).load();
+    }
+
+    @Test
+    public void convert_xmlToBinaryAndBack_sameContent() throws Exception {
+        String binaryPath = testFolder.getRoot().getPath() + "/" + "temp.bin";
+        StorageConverter.convert(TEST_DATA_FOLDER + "/" + "ValidData.xml", binaryPath);
+        StorageConverter.convert(binaryPath, getTempStorage().getPath());
+
+        assertEquals(getStorage("ValidData.xml").load().getAllPersons(), getTempStorage().load().getAllPersons());
+    }
+
+    @Test
+    public void convert_missingSourceFile_exceptionThrownAndTargetKept() throws Exception {
+        String missingPath = testFolder.getRoot().getPath() + "/" + "missing.bin";
+        StorageFile target = getTempStorage();
+        target.save(getTestAddressBook());
+
+        boolean isRejected = false;
+        try {
+            StorageConverter.convert(missingPath, target.getPath());
+        } catch (StorageOperationException soe) {
+            isRejected = true;
+        }
+        assertTrue(isRejected);
+        assertFalse(Files.exists(Paths.get(missingPath)));
+        assertEquals(getTestAddressBook().getAllPersons(), getTempStorage().load().getAllPersons());
+    }
+
     // getPath() method in StorageFile class is trivial so it is not tested
 
     /**
@@ -92,6 +248,14 @@ public class StorageFileTest {
         return new StorageFile(testFolder.getRoot().getPath() + "/" + "temp.xml");
     }
 
+    private StorageFile getTempJournaledStorage() throws Exception {
+        return new StorageFile(testFolder.getRoot().getPath() + "/" + "temp.xml", true);
+    }
+
+    private Path getTempJournalPath() {
+        return Paths.get(testFolder.getRoot().getPath(), "temp.xml" + StorageJournal.JOURNAL_FILE_SUFFIX);
+    }
+
     private AddressBook getTestAddressBook() throws Exception {
         AddressBook ab = new AddressBook();
         ab.addPerson(new Person(new Name("John Doe"),